@@ -1,11 +1,20 @@
 package codes.biscuit.skyblocklib;
 
+import codes.biscuit.skyblocklib.export.StateExporter;
+import codes.biscuit.skyblocklib.item.HeldItemResolver;
 import codes.biscuit.skyblocklib.listener.*;
+import codes.biscuit.skyblocklib.managers.AbilityAnnouncements;
+import codes.biscuit.skyblocklib.managers.CooldownManager;
 import codes.biscuit.skyblocklib.managers.ItemAbilityFile;
+import codes.biscuit.skyblocklib.managers.SessionStatistics;
 import codes.biscuit.skyblocklib.parsers.ActionBarParser;
+import codes.biscuit.skyblocklib.parsers.ScoreboardParser;
 import codes.biscuit.skyblocklib.player.SkyblockPlayer;
+import codes.biscuit.skyblocklib.recording.SessionRecorder;
+import codes.biscuit.skyblocklib.scoreboard.SidebarModel;
 import codes.biscuit.skyblocklib.skyblock.Skyblock;
 import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.fml.common.eventhandler.EventBus;
 
 public class SkyblockLib {
 
@@ -24,32 +33,126 @@ public class SkyblockLib {
     }
 
     private final ItemAbilityFile itemAbilityFile;
+    private final SessionStatistics sessionStatistics;
+    private final CooldownManager cooldownManager;
+    private final HeldItemResolver heldItemResolver;
+    private final AbilityAnnouncements abilityAnnouncements;
     private final Skyblock skyblock;
     private final SkyblockPlayer skyblockPlayer;
     private final ActionBarParser actionBarParser;
+    private final ScoreboardParser scoreboardParser;
+    private final SidebarModel sidebarModel;
+    private final StateExporter stateExporter;
+    private final SessionRecorder sessionRecorder;
 
     private SkyblockLib() {
-        itemAbilityFile = ItemAbilityFile.fromFileAndRemote();
-        skyblock = new Skyblock();
-        skyblockPlayer = new SkyblockPlayer();
-        actionBarParser = new ActionBarParser();
+        this(ItemAbilityFile.fromFileAndRemote(), new Skyblock(), new SkyblockPlayer(), MinecraftForge.EVENT_BUS);
 
         // start listeners and stuff
         MinecraftForge.EVENT_BUS.register(new EventListener());
-        MinecraftForge.EVENT_BUS.register(new NetworkListener(MinecraftForge.EVENT_BUS));
-        MinecraftForge.EVENT_BUS.register(new TickListener(MinecraftForge.EVENT_BUS));
+        MinecraftForge.EVENT_BUS.register(new NetworkListener(MinecraftForge.EVENT_BUS, sidebarModel));
+        MinecraftForge.EVENT_BUS.register(new TickListener(MinecraftForge.EVENT_BUS, scoreboardParser));
         MinecraftForge.EVENT_BUS.register(new ChatListener(this, MinecraftForge.EVENT_BUS));
         MinecraftForge.EVENT_BUS.register(new SkyblockListener());
     }
 
+    /**
+     * Creates an instance that is separate from the {@link #getInstance() global instance} and doesn't register any
+     * listeners, like for replaying recorded sessions. Its parsers only update the given Skyblock and player.
+     *
+     * @param itemAbilityFile The item abilities
+     * @param skyblock The Skyblock state the scoreboard is parsed into
+     * @param skyblockPlayer The player the action bar is parsed into
+     * @param eventBus The event bus to fire the events on
+     */
+    public SkyblockLib(ItemAbilityFile itemAbilityFile, Skyblock skyblock, SkyblockPlayer skyblockPlayer, EventBus eventBus) {
+        this.itemAbilityFile = itemAbilityFile;
+        this.skyblock = skyblock;
+        this.skyblockPlayer = skyblockPlayer;
+        sessionStatistics = new SessionStatistics(itemAbilityFile);
+        cooldownManager = new CooldownManager(itemAbilityFile, eventBus);
+        heldItemResolver = new HeldItemResolver(itemAbilityFile);
+        abilityAnnouncements = new AbilityAnnouncements();
+        actionBarParser = new ActionBarParser(this, skyblockPlayer, eventBus);
+        skyblockPlayer.setActionBarParser(actionBarParser);
+        sessionStatistics.setActionBarParser(actionBarParser);
+        cooldownManager.setActionBarParser(actionBarParser);
+        scoreboardParser = new ScoreboardParser(eventBus, skyblock);
+        sidebarModel = new SidebarModel();
+        stateExporter = new StateExporter(skyblockPlayer, skyblock);
+        sessionRecorder = new SessionRecorder();
+    }
+
     public ItemAbilityFile getItemAbilityFile() {
         return itemAbilityFile;
     }
 
+    /**
+     * @return Totals of the current session, like the mana spent on abilities
+     */
+    public SessionStatistics getSessionStatistics() {
+        return sessionStatistics;
+    }
+
+    /**
+     * @return The cooldowns of used item abilities
+     */
+    public CooldownManager getCooldownManager() {
+        return cooldownManager;
+    }
+
+    /**
+     * @return The resolver of the Skyblock item the player is holding and its abilities
+     */
+    public HeldItemResolver getHeldItemResolver() {
+        return heldItemResolver;
+    }
+
+    /**
+     * @return The announcements of used abilities from chat and the action bar, which fire one event per use
+     */
+    public AbilityAnnouncements getAbilityAnnouncements() {
+        return abilityAnnouncements;
+    }
+
     public ActionBarParser getActionBarParser() {
         return actionBarParser;
     }
 
+    /**
+     * @return The parser of the sidebar, which also counts how often parsing was skipped because it didn't change
+     */
+    public ScoreboardParser getScoreboardParser() {
+        return scoreboardParser;
+    }
+
+    /**
+     * @return The sidebar, kept up to date from the scoreboard packets
+     */
+    public SidebarModel getSidebarModel() {
+        return sidebarModel;
+    }
+
+    /**
+     * Get the exporter that shares the player's state with other processes through a memory-mapped file.
+     * It does nothing until it is {@link StateExporter#start(java.io.File) started}.
+     *
+     * @return The state exporter
+     */
+    public StateExporter getStateExporter() {
+        return stateExporter;
+    }
+
+    /**
+     * Get the recorder that writes the raw action bars, chat messages and scoreboards into files, to reproduce
+     * parsing problems. It does nothing until it is {@link SessionRecorder#start(java.io.File) started}.
+     *
+     * @return The session recorder
+     */
+    public SessionRecorder getSessionRecorder() {
+        return sessionRecorder;
+    }
+
     public static Skyblock getSkyblock() {
         return getInstance().skyblock;
     }
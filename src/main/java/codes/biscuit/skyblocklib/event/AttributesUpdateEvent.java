@@ -0,0 +1,64 @@
+package codes.biscuit.skyblocklib.event;
+
+import codes.biscuit.skyblocklib.player.Attributes;
+import net.minecraftforge.fml.common.eventhandler.Event;
+
+/**
+ * This event is fired after an action bar changed any of the player's {@link Attributes}, so they don't have to be
+ * checked every frame. Attributes are identified by their bits, like {@link Attributes#HEALTH}.
+ * <p>
+ * Action bar sections are only parsed when their values are needed, so without a subscription an update is only fired
+ * once the changed attribute is read. Listeners should call
+ * {@link codes.biscuit.skyblocklib.parsers.ActionBarParser#subscribeAttributes() subscribeAttributes()} to get every
+ * update right away.
+ */
+public class AttributesUpdateEvent extends Event {
+
+    private final int changedAttributes;
+    private final int[] oldValues;
+    private final int[] newValues;
+
+    /**
+     * @param changedAttributes Bits of all attributes that changed
+     * @param oldValues All attribute values before the update, in the order of their bits
+     * @param newValues All attribute values after the update, in the order of their bits
+     */
+    public AttributesUpdateEvent(int changedAttributes, int[] oldValues, int[] newValues) {
+        this.changedAttributes = changedAttributes;
+        this.oldValues = oldValues;
+        this.newValues = newValues;
+    }
+
+    /**
+     * @return Bits of all attributes that changed
+     */
+    public int getChangedAttributes() {
+        return changedAttributes;
+    }
+
+    /**
+     * Check if any of the given attributes changed, like {@code hasChanged(Attributes.HEALTH | Attributes.MAX_HEALTH)}.
+     *
+     * @param attributes Bits of the attributes
+     * @return Whether at least one of them changed
+     */
+    public boolean hasChanged(int attributes) {
+        return (changedAttributes & attributes) != 0;
+    }
+
+    /**
+     * @param attribute Bit of a single attribute
+     * @return The value of the attribute before the update
+     */
+    public int getOldValue(int attribute) {
+        return oldValues[Integer.numberOfTrailingZeros(attribute)];
+    }
+
+    /**
+     * @param attribute Bit of a single attribute
+     * @return The value of the attribute after the update
+     */
+    public int getNewValue(int attribute) {
+        return newValues[Integer.numberOfTrailingZeros(attribute)];
+    }
+}
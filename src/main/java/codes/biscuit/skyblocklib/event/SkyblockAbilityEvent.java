@@ -8,7 +8,8 @@ public class SkyblockAbilityEvent extends Event {
     private final SkyblockItemAbility ability;
 
     /**
-     * This event is fired when a player uses an item ability.
+     * This event is fired once when a player uses an item ability, even if the use is announced in chat and the
+     * action bar.
      *
      * @param ability The ability that was used.
      */
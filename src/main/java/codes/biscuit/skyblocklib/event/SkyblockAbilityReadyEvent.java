@@ -0,0 +1,25 @@
+package codes.biscuit.skyblocklib.event;
+
+import codes.biscuit.skyblocklib.model.SkyblockItemAbility;
+import net.minecraftforge.fml.common.eventhandler.Event;
+
+public class SkyblockAbilityReadyEvent extends Event {
+
+    private final SkyblockItemAbility ability;
+
+    /**
+     * This event is fired once when the cooldown of a used item ability ran out.
+     *
+     * @param ability The ability that is ready again.
+     */
+    public SkyblockAbilityReadyEvent(SkyblockItemAbility ability) {
+        this.ability = ability;
+    }
+
+    /**
+     * @return The ability that is ready again.
+     */
+    public SkyblockItemAbility getAbility() {
+        return ability;
+    }
+}
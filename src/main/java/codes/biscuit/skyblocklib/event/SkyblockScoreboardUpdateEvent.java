@@ -0,0 +1,47 @@
+package codes.biscuit.skyblocklib.event;
+
+import codes.biscuit.skyblocklib.scoreboard.SkyblockScoreboard;
+import net.minecraftforge.fml.common.eventhandler.Event;
+
+/**
+ * This event is fired after the sidebar changed any of the fields of the {@link SkyblockScoreboard}, so the sidebar
+ * doesn't have to be read every frame. Fields are identified by their bits, like {@link SkyblockScoreboard#PURSE}.
+ */
+public class SkyblockScoreboardUpdateEvent extends Event {
+
+    private final int changedFields;
+    private final SkyblockScoreboard scoreboard;
+
+    /**
+     * @param changedFields Bits of all fields that changed
+     * @param scoreboard The scoreboard after the update
+     */
+    public SkyblockScoreboardUpdateEvent(int changedFields, SkyblockScoreboard scoreboard) {
+        this.changedFields = changedFields;
+        this.scoreboard = scoreboard;
+    }
+
+    /**
+     * @return Bits of all fields that changed
+     */
+    public int getChangedFields() {
+        return changedFields;
+    }
+
+    /**
+     * Check if any of the given fields changed, like {@code hasChanged(SkyblockScoreboard.PURSE | SkyblockScoreboard.BITS)}.
+     *
+     * @param fields Bits of the fields
+     * @return Whether at least one of them changed
+     */
+    public boolean hasChanged(int fields) {
+        return (changedFields & fields) != 0;
+    }
+
+    /**
+     * @return The scoreboard with the new values
+     */
+    public SkyblockScoreboard getScoreboard() {
+        return scoreboard;
+    }
+}
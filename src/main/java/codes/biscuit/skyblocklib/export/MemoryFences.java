@@ -0,0 +1,60 @@
+package codes.biscuit.skyblocklib.export;
+
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Field;
+
+/**
+ * Memory fences around the plain {@link java.nio.MappedByteBuffer} accesses of the exported file. Buffer puts and gets
+ * aren't volatile, so a volatile field access between them doesn't keep them from being reordered around it. The
+ * fences of {@link Unsafe} do, for every load or store before and after them.
+ * <p>
+ * If {@link Unsafe} isn't available, this falls back to volatile accesses, which only keep the order on HotSpot
+ * running on x86, where stores aren't reordered with other stores and loads aren't reordered with other loads.
+ * <p>
+ * Java 8 has no public API for these fences, so compiling this gives a warning about {@link Unsafe} being internal
+ * that can't be suppressed. It's kept in this one class, which tools that copy the {@link StateExportReader} need too.
+ */
+final class MemoryFences {
+
+    private static final Unsafe UNSAFE = findUnsafe();
+
+    @SuppressWarnings("unused")
+    private static volatile int fallbackFence;
+
+    private MemoryFences() {
+    }
+
+    private static Unsafe findUnsafe() {
+        try {
+            Field field = Unsafe.class.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return (Unsafe) field.get(null);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            // Not logged, as the StateExportReader also runs outside of Minecraft
+            return null;
+        }
+    }
+
+    /**
+     * Keeps the stores before this from being reordered with the stores after it.
+     */
+    static void storeFence() {
+        if (UNSAFE != null) {
+            UNSAFE.storeFence();
+        } else {
+            fallbackFence = 0;
+        }
+    }
+
+    /**
+     * Keeps the loads before this from being reordered with the loads after it.
+     */
+    static void loadFence() {
+        if (UNSAFE != null) {
+            UNSAFE.loadFence();
+        } else {
+            int ignored = fallbackFence;
+        }
+    }
+}
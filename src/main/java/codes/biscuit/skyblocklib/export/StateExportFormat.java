@@ -0,0 +1,80 @@
+package codes.biscuit.skyblocklib.export;
+
+/**
+ * Layout of the file written by the {@link StateExporter}. The file is always {@value #SIZE} bytes long and all
+ * values are little endian. Integers are signed 32 bit, longs signed 64 bit and doubles IEEE 754 64 bit.
+ *
+ * <table summary="File layout">
+ * <tr><th>Offset</th><th>Type</th><th>Value</th></tr>
+ * <tr><td>0</td><td>int</td><td>{@link #MAGIC}, the bytes {@code SBLS}</td></tr>
+ * <tr><td>4</td><td>int</td><td>{@link #FORMAT_VERSION}, changes when the layout changes</td></tr>
+ * <tr><td>8</td><td>long</td><td>Sequence, odd while the state is being written</td></tr>
+ * <tr><td>16</td><td>long</td><td>Time of the last write in milliseconds since the epoch</td></tr>
+ * <tr><td>24</td><td>int</td><td>Flags, see {@link #FLAG_ON_SKYBLOCK} and the other flags</td></tr>
+ * <tr><td>28</td><td>int</td><td>Health</td></tr>
+ * <tr><td>32</td><td>int</td><td>Max health</td></tr>
+ * <tr><td>36</td><td>int</td><td>Mana</td></tr>
+ * <tr><td>40</td><td>int</td><td>Max mana</td></tr>
+ * <tr><td>44</td><td>int</td><td>Defence</td></tr>
+ * <tr><td>48</td><td>int</td><td>Wand healing per second</td></tr>
+ * <tr><td>52</td><td>int</td><td>Available item charges</td></tr>
+ * <tr><td>56</td><td>int</td><td>Total item charges</td></tr>
+ * <tr><td>60</td><td>int</td><td>Ordinal of the {@link codes.biscuit.skyblocklib.model.Skill Skill} of the last
+ * skill update, {@code -1} if unknown</td></tr>
+ * <tr><td>64</td><td>double</td><td>Skill progress</td></tr>
+ * <tr><td>72</td><td>double</td><td>Skill max progress</td></tr>
+ * <tr><td>80</td><td>double</td><td>Skill increase</td></tr>
+ * <tr><td>88</td><td>int</td><td>Ordinal of the active {@link codes.biscuit.skyblocklib.item.PowerOrbType
+ * PowerOrbType}, {@code -1} if none</td></tr>
+ * <tr><td>92</td><td>int</td><td>Seconds the power orb has left</td></tr>
+ * <tr><td>96</td><td>int</td><td>Ordinal of the {@link codes.biscuit.skyblocklib.calendar.SkyblockMonth
+ * SkyblockMonth}</td></tr>
+ * <tr><td>100</td><td>int</td><td>Day of the month</td></tr>
+ * <tr><td>104</td><td>int</td><td>Hour, 1 to 12</td></tr>
+ * <tr><td>108</td><td>int</td><td>Minute</td></tr>
+ * <tr><td>112</td><td>int</td><td>Period, {@code 0} for am and {@code 1} for pm</td></tr>
+ * <tr><td>116</td><td></td><td>Reserved until {@value #SIZE}</td></tr>
+ * </table>
+ *
+ * <h3>Reading a consistent copy</h3>
+ * Read the sequence, then all needed values, then the sequence again. The copy is consistent if both sequences are
+ * the same even number, otherwise try again. The {@link StateExportReader} is a reference implementation.
+ */
+public final class StateExportFormat {
+
+    public static final int MAGIC = 'S' | 'B' << 8 | 'L' << 16 | 'S' << 24;
+    public static final int FORMAT_VERSION = 1;
+    public static final int SIZE = 128;
+
+    public static final int FLAG_ON_SKYBLOCK = 1;
+    public static final int FLAG_HAS_CHARGES = 1 << 1;
+    public static final int FLAG_HAS_SKILL = 1 << 2;
+    public static final int FLAG_HAS_POWER_ORB = 1 << 3;
+
+    public static final int MAGIC_OFFSET = 0;
+    public static final int FORMAT_VERSION_OFFSET = 4;
+    public static final int SEQUENCE_OFFSET = 8;
+    public static final int TIMESTAMP_OFFSET = 16;
+    public static final int FLAGS_OFFSET = 24;
+    public static final int HEALTH_OFFSET = 28;
+    public static final int MAX_HEALTH_OFFSET = 32;
+    public static final int MANA_OFFSET = 36;
+    public static final int MAX_MANA_OFFSET = 40;
+    public static final int DEFENCE_OFFSET = 44;
+    public static final int WAND_HEALING_OFFSET = 48;
+    public static final int AVAILABLE_CHARGES_OFFSET = 52;
+    public static final int TOTAL_CHARGES_OFFSET = 56;
+    public static final int SKILL_OFFSET = 60;
+    public static final int SKILL_PROGRESS_OFFSET = 64;
+    public static final int SKILL_MAX_PROGRESS_OFFSET = 72;
+    public static final int SKILL_INCREASE_OFFSET = 80;
+    public static final int POWER_ORB_OFFSET = 88;
+    public static final int POWER_ORB_SECONDS_OFFSET = 92;
+    public static final int MONTH_OFFSET = 96;
+    public static final int DAY_OFFSET = 100;
+    public static final int HOUR_OFFSET = 104;
+    public static final int MINUTE_OFFSET = 108;
+    public static final int PERIOD_OFFSET = 112;
+
+    private StateExportFormat() {}
+}
@@ -0,0 +1,243 @@
+package codes.biscuit.skyblocklib.export;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import static codes.biscuit.skyblocklib.export.StateExportFormat.*;
+
+/**
+ * Reference reader for files written by the {@link StateExporter}, meant to run in another process. It only uses the
+ * JDK, so it can be copied into other tools along with {@link StateExportFormat} and {@link MemoryFences}. The fences
+ * use {@code sun.misc.Unsafe}, which javac warns about as an internal API, and fall back to volatile accesses where
+ * it isn't available.
+ * <p>
+ * Run it with the path of the file to print the exported state every second:
+ * <p>{@code java codes.biscuit.skyblocklib.export.StateExportReader <file>}</p>
+ */
+public class StateExportReader {
+
+    private static final int MAX_ATTEMPTS = 1000;
+
+    private final MappedByteBuffer buffer;
+
+    private long sequence;
+    private long timestamp;
+    private int flags;
+    private int health;
+    private int maxHealth;
+    private int mana;
+    private int maxMana;
+    private int defence;
+    private int wandHealing;
+    private int availableCharges;
+    private int totalCharges;
+    private int skill;
+    private double skillProgress;
+    private double skillMaxProgress;
+    private double skillIncrease;
+    private int powerOrb;
+    private int powerOrbSeconds;
+    private int month;
+    private int day;
+    private int hour;
+    private int minute;
+    private int period;
+
+    /**
+     * @param file File written by the exporter
+     * @throws IOException If the file can't be mapped or isn't an export file
+     */
+    public StateExportReader(File file) throws IOException {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+            if (randomAccessFile.length() < SIZE) {
+                throw new IOException("The file is too short to be a state export");
+            }
+            buffer = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, SIZE);
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.getInt(MAGIC_OFFSET) != MAGIC) {
+            throw new IOException("The file is not a state export");
+        }
+        if (buffer.getInt(FORMAT_VERSION_OFFSET) != FORMAT_VERSION) {
+            throw new IOException("Unsupported format version " + buffer.getInt(FORMAT_VERSION_OFFSET));
+        }
+    }
+
+    /**
+     * Copies the current state out of the file, retrying while it is being written.
+     *
+     * @return Whether a consistent copy was read. If not, the previously read values may be mixed with new ones.
+     */
+    public boolean read() {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            long startSequence = buffer.getLong(SEQUENCE_OFFSET);
+            MemoryFences.loadFence();
+            if ((startSequence & 1) != 0) {
+                Thread.yield();
+                continue;
+            }
+
+            timestamp = buffer.getLong(TIMESTAMP_OFFSET);
+            flags = buffer.getInt(FLAGS_OFFSET);
+            health = buffer.getInt(HEALTH_OFFSET);
+            maxHealth = buffer.getInt(MAX_HEALTH_OFFSET);
+            mana = buffer.getInt(MANA_OFFSET);
+            maxMana = buffer.getInt(MAX_MANA_OFFSET);
+            defence = buffer.getInt(DEFENCE_OFFSET);
+            wandHealing = buffer.getInt(WAND_HEALING_OFFSET);
+            availableCharges = buffer.getInt(AVAILABLE_CHARGES_OFFSET);
+            totalCharges = buffer.getInt(TOTAL_CHARGES_OFFSET);
+            skill = buffer.getInt(SKILL_OFFSET);
+            skillProgress = buffer.getDouble(SKILL_PROGRESS_OFFSET);
+            skillMaxProgress = buffer.getDouble(SKILL_MAX_PROGRESS_OFFSET);
+            skillIncrease = buffer.getDouble(SKILL_INCREASE_OFFSET);
+            powerOrb = buffer.getInt(POWER_ORB_OFFSET);
+            powerOrbSeconds = buffer.getInt(POWER_ORB_SECONDS_OFFSET);
+            month = buffer.getInt(MONTH_OFFSET);
+            day = buffer.getInt(DAY_OFFSET);
+            hour = buffer.getInt(HOUR_OFFSET);
+            minute = buffer.getInt(MINUTE_OFFSET);
+            period = buffer.getInt(PERIOD_OFFSET);
+
+            MemoryFences.loadFence();
+            if (buffer.getLong(SEQUENCE_OFFSET) == startSequence) {
+                sequence = startSequence;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return Sequence of the last read state, it grows with every export
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * @return Time of the last read export in milliseconds since the epoch
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @param flag A flag like {@link StateExportFormat#FLAG_ON_SKYBLOCK}
+     * @return Whether the flag is set
+     */
+    public boolean hasFlag(int flag) {
+        return (flags & flag) != 0;
+    }
+
+    public int getHealth() {
+        return health;
+    }
+
+    public int getMaxHealth() {
+        return maxHealth;
+    }
+
+    public int getMana() {
+        return mana;
+    }
+
+    public int getMaxMana() {
+        return maxMana;
+    }
+
+    public int getDefence() {
+        return defence;
+    }
+
+    public int getWandHealing() {
+        return wandHealing;
+    }
+
+    public int getAvailableCharges() {
+        return availableCharges;
+    }
+
+    public int getTotalCharges() {
+        return totalCharges;
+    }
+
+    /**
+     * @return Ordinal of the skill of the last skill update or {@code -1} if unknown
+     */
+    public int getSkill() {
+        return skill;
+    }
+
+    public double getSkillProgress() {
+        return skillProgress;
+    }
+
+    public double getSkillMaxProgress() {
+        return skillMaxProgress;
+    }
+
+    public double getSkillIncrease() {
+        return skillIncrease;
+    }
+
+    /**
+     * @return Ordinal of the active power orb type or {@code -1} if none
+     */
+    public int getPowerOrb() {
+        return powerOrb;
+    }
+
+    public int getPowerOrbSeconds() {
+        return powerOrbSeconds;
+    }
+
+    /**
+     * @return Ordinal of the Skyblock month
+     */
+    public int getMonth() {
+        return month;
+    }
+
+    public int getDay() {
+        return day;
+    }
+
+    public int getHour() {
+        return hour;
+    }
+
+    public int getMinute() {
+        return minute;
+    }
+
+    /**
+     * @return {@code 0} for am, {@code 1} for pm
+     */
+    public int getPeriod() {
+        return period;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length != 1) {
+            System.err.println("Usage: StateExportReader <file>");
+            System.exit(1);
+        }
+        StateExportReader reader = new StateExportReader(new File(args[0]));
+        while (true) {
+            if (reader.read()) {
+                System.out.printf("#%d health %d/%d mana %d/%d defence %d, day %d %02d:%02d%s%n",
+                        reader.getSequence(), reader.getHealth(), reader.getMaxHealth(), reader.getMana(),
+                        reader.getMaxMana(), reader.getDefence(), reader.getDay(), reader.getHour(), reader.getMinute(),
+                        reader.getPeriod() == 0 ? "am" : "pm");
+            } else {
+                System.out.println("Couldn't read a consistent state");
+            }
+            Thread.sleep(1000);
+        }
+    }
+}
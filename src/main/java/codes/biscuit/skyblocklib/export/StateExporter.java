@@ -0,0 +1,139 @@
+package codes.biscuit.skyblocklib.export;
+
+import codes.biscuit.skyblocklib.calendar.SkyblockCalendar;
+import codes.biscuit.skyblocklib.player.PlayerSnapshot;
+import codes.biscuit.skyblocklib.player.SkyblockPlayer;
+import codes.biscuit.skyblocklib.skyblock.Skyblock;
+import codes.biscuit.skyblocklib.utils.SBLLog;
+import com.google.common.base.Preconditions;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import static codes.biscuit.skyblocklib.export.StateExportFormat.*;
+
+/**
+ * Writes the player's state and the Skyblock calendar into a memory-mapped file every tick, so other processes on
+ * the same machine, like stream overlays, can read them without sockets or parsing. The layout of the file is
+ * described in {@link StateExportFormat}.
+ * <p>
+ * Exporting is off until it is {@link #start(File) started}. It doesn't allocate anything while running.
+ */
+public class StateExporter {
+
+    private final SkyblockPlayer skyblockPlayer;
+    private final Skyblock skyblock;
+    private final PlayerSnapshot snapshot = new PlayerSnapshot();
+
+    private MappedByteBuffer buffer;
+    private long sequence;
+
+    public StateExporter(SkyblockPlayer skyblockPlayer, Skyblock skyblock) {
+        this.skyblockPlayer = skyblockPlayer;
+        this.skyblock = skyblock;
+    }
+
+    /**
+     * Starts exporting into a file. The file is created if it doesn't exist, otherwise it is overwritten.
+     * If the exporter was already started, it switches to the new file.
+     *
+     * @param file File to export into
+     * @throws IOException If the file can't be created or mapped
+     */
+    public void start(File file) throws IOException {
+        Preconditions.checkArgument(file != null, "The file must not be null");
+        MappedByteBuffer newBuffer;
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.setLength(SIZE);
+            // The mapping stays valid after the channel is closed
+            newBuffer = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, SIZE);
+        }
+        newBuffer.order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < SIZE; i += 8) {
+            newBuffer.putLong(i, 0);
+        }
+        newBuffer.putInt(MAGIC_OFFSET, MAGIC);
+        newBuffer.putInt(FORMAT_VERSION_OFFSET, FORMAT_VERSION);
+        buffer = newBuffer;
+        sequence = 0;
+        SBLLog.info("Exporting the Skyblock state to %s", file);
+        export();
+    }
+
+    /**
+     * Stops exporting. The file is left with the last exported state and unmapped once the mapping gets garbage
+     * collected.
+     */
+    public void stop() {
+        buffer = null;
+    }
+
+    /**
+     * @return Whether the exporter is writing into a file
+     */
+    public boolean isStarted() {
+        return buffer != null;
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Writes the current state into the file, if the exporter was started.
+     */
+    public void export() {
+        MappedByteBuffer buffer = this.buffer;
+        if (buffer == null) {
+            return;
+        }
+        // The player state is consistent as of its last publish at the end of the tick
+        skyblockPlayer.getState().read(snapshot);
+        SkyblockCalendar calendar = skyblock.getCalendar();
+
+        int flags = 0;
+        if (skyblock.isOnSkyblock()) {
+            flags |= FLAG_ON_SKYBLOCK;
+        }
+        if (snapshot.hasCharges()) {
+            flags |= FLAG_HAS_CHARGES;
+        }
+        if (snapshot.getSkillTimestamp() != 0) {
+            flags |= FLAG_HAS_SKILL;
+        }
+        if (snapshot.getPowerOrb() != null) {
+            flags |= FLAG_HAS_POWER_ORB;
+        }
+
+        // The values can't be written before the sequence is odd
+        buffer.putLong(SEQUENCE_OFFSET, ++sequence);
+        MemoryFences.storeFence();
+
+        buffer.putLong(TIMESTAMP_OFFSET, System.currentTimeMillis());
+        buffer.putInt(FLAGS_OFFSET, flags);
+        buffer.putInt(HEALTH_OFFSET, snapshot.getHealth());
+        buffer.putInt(MAX_HEALTH_OFFSET, snapshot.getMaxHealth());
+        buffer.putInt(MANA_OFFSET, snapshot.getMana());
+        buffer.putInt(MAX_MANA_OFFSET, snapshot.getMaxMana());
+        buffer.putInt(DEFENCE_OFFSET, snapshot.getDefence());
+        buffer.putInt(WAND_HEALING_OFFSET, snapshot.getWandHealing());
+        buffer.putInt(AVAILABLE_CHARGES_OFFSET, snapshot.getAvailableCharges());
+        buffer.putInt(TOTAL_CHARGES_OFFSET, snapshot.getTotalCharges());
+        buffer.putInt(SKILL_OFFSET, snapshot.getSkill() == null ? -1 : snapshot.getSkill().ordinal());
+        buffer.putDouble(SKILL_PROGRESS_OFFSET, snapshot.getSkillProgress());
+        buffer.putDouble(SKILL_MAX_PROGRESS_OFFSET, snapshot.getSkillMaxProgress());
+        buffer.putDouble(SKILL_INCREASE_OFFSET, snapshot.getSkillIncrease());
+        buffer.putInt(POWER_ORB_OFFSET, snapshot.getPowerOrb() == null ? -1 : snapshot.getPowerOrb().ordinal());
+        buffer.putInt(POWER_ORB_SECONDS_OFFSET, snapshot.getPowerOrbSeconds());
+        buffer.putInt(MONTH_OFFSET, calendar.getMonth().ordinal());
+        buffer.putInt(DAY_OFFSET, calendar.getDay());
+        buffer.putInt(HOUR_OFFSET, calendar.getHour());
+        buffer.putInt(MINUTE_OFFSET, calendar.getMinute());
+        buffer.putInt(PERIOD_OFFSET, "pm".equals(calendar.getPeriod()) ? 1 : 0);
+
+        // and the sequence can't become even again before all values are written
+        MemoryFences.storeFence();
+        buffer.putLong(SEQUENCE_OFFSET, ++sequence);
+    }
+}
@@ -0,0 +1,118 @@
+package codes.biscuit.skyblocklib.item;
+
+import codes.biscuit.skyblocklib.managers.ItemAbilityFile;
+import codes.biscuit.skyblocklib.model.SkyblockItemAbility;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Finds out which Skyblock item the player is holding, by the {@code id} in the {@code ExtraAttributes} tag that
+ * Skyblock adds to its items.
+ * <p>
+ * The ID is only read from the NBT when the held slot or the stack in it changes. The stack is compared by identity,
+ * which is enough because Minecraft replaces the stack whenever the server sends a new one.
+ */
+public class HeldItemResolver {
+
+    private static final String EXTRA_ATTRIBUTES = "ExtraAttributes";
+    private static final String ID = "id";
+    private static final int STRING_TAG = 8;
+
+    private final ItemAbilityFile itemAbilityFile;
+
+    private int heldSlot = -1;
+    private ItemStack heldStack;
+    private String itemId;
+    private List<SkyblockItemAbility> abilities = Collections.emptyList();
+
+    public HeldItemResolver(ItemAbilityFile itemAbilityFile) {
+        this.itemAbilityFile = itemAbilityFile;
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Updates the held item.
+     *
+     * @param slot Selected hotbar slot
+     * @param stack Stack in that slot or {@code null} if it's empty
+     * @return Whether the player holds another item than before, either because another slot was selected or the
+     * item in the slot has another ID
+     */
+    public boolean update(int slot, @Nullable ItemStack stack) {
+        if (slot == heldSlot && stack == heldStack) {
+            return false;
+        }
+        boolean slotChanged = slot != heldSlot;
+        heldSlot = slot;
+        heldStack = stack;
+
+        String newItemId = readItemId(stack);
+        if (!slotChanged && (newItemId == null ? itemId == null : newItemId.equals(itemId))) {
+            // Same item with different NBT, like when its charges change
+            return false;
+        }
+        itemId = newItemId;
+        abilities = newItemId == null ? Collections.emptyList() : itemAbilityFile.getAbilitiesOfItem(newItemId);
+        return true;
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Forgets the held item, like when the player leaves the world.
+     */
+    public void reset() {
+        heldSlot = -1;
+        heldStack = null;
+        itemId = null;
+        abilities = Collections.emptyList();
+    }
+
+    /**
+     * @return Skyblock ID of the held item, like {@code ASPECT_OF_THE_END}, or {@code null} if the player doesn't
+     * hold a Skyblock item
+     */
+    @Nullable
+    public String getItemId() {
+        return itemId;
+    }
+
+    /**
+     * @return The abilities of the held item, empty if it has none
+     */
+    @NotNull
+    public List<SkyblockItemAbility> getAbilities() {
+        return abilities;
+    }
+
+    /**
+     * @param ability The ability
+     * @return Whether the held item has this ability
+     */
+    public boolean hasAbility(SkyblockItemAbility ability) {
+        return abilities.contains(ability);
+    }
+
+    /**
+     * Read the Skyblock ID of an item.
+     *
+     * @param stack The item
+     * @return The ID or {@code null} if the item isn't a Skyblock item
+     */
+    @Nullable
+    public static String readItemId(@Nullable ItemStack stack) {
+        if (stack == null) {
+            return null;
+        }
+        NBTTagCompound extraAttributes = stack.getSubCompound(EXTRA_ATTRIBUTES, false);
+        if (extraAttributes == null || !extraAttributes.hasKey(ID, STRING_TAG)) {
+            return null;
+        }
+        String id = extraAttributes.getString(ID);
+        return id.isEmpty() ? null : id;
+    }
+}
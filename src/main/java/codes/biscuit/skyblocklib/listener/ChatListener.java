@@ -2,6 +2,7 @@ package codes.biscuit.skyblocklib.listener;
 
 import codes.biscuit.skyblocklib.SkyblockLib;
 import codes.biscuit.skyblocklib.event.SkyblockAbilityEvent;
+import codes.biscuit.skyblocklib.managers.AbilityAnnouncements;
 import codes.biscuit.skyblocklib.model.SkyblockItemAbility;
 import net.minecraft.util.ChatComponentText;
 import net.minecraft.util.IChatComponent;
@@ -44,21 +45,50 @@ public class ChatListener {
     }
 
     private void handleNormalMessage(IChatComponent message) {
-        final String unformattedText = message.getUnformattedText();
         final String formattedText = message.getFormattedText();
+        skyblockLib.getSessionRecorder().recordChat(formattedText);
+        parseChatMessage(formattedText);
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Reads the information from a normal chat message and fires the corresponding events.
+     *
+     * @param formattedText The formatted chat message
+     */
+    public void parseChatMessage(String formattedText) {
+        parseChatMessage(formattedText, System.currentTimeMillis());
+    }
 
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Reads the information from a normal chat message that arrived at the given time and fires the corresponding
+     * events.
+     *
+     * @param formattedText The formatted chat message
+     * @param timestamp Time the message arrived in milliseconds
+     */
+    public void parseChatMessage(String formattedText, long timestamp) {
         Matcher matcher = CHAT_ABILITY_PATTERN.matcher(formattedText);
         if (matcher.matches()) {
-            // Fire a SkyblockAbilityEvent if an ability matching that name was found
+            // Fire a SkyblockAbilityEvent if an ability matching that name was found,
+            // unless the action bar already announced this use
             final String abilityName = matcher.group(1);
             final Optional<SkyblockItemAbility> ability = skyblockLib.getItemAbilityFile().findAbilityByName(abilityName);
-            ability.ifPresent(skyblockItemAbility -> eventBus.post(new SkyblockAbilityEvent(skyblockItemAbility)));
+            if (ability.isPresent() && skyblockLib.getAbilityAnnouncements().announce(ability.get(),
+                    AbilityAnnouncements.Source.CHAT, timestamp)) {
+                eventBus.post(new SkyblockAbilityEvent(ability.get()));
+            }
         }
     }
 
     private void handleActionBarMessage(ClientChatReceivedEvent event) {
         // parse using ActionBarParser and display the rest message instead
-        String restMessage = SkyblockLib.getInstance().getActionBarParser().parseActionBar(event.message.getUnformattedText());
+        String actionBar = event.message.getUnformattedText();
+        skyblockLib.getSessionRecorder().recordActionBar(actionBar);
+        // The parser already returns the same result for repeated action bars. The component is mutable and other
+        // mods may change it, so each event gets its own.
+        String restMessage = skyblockLib.getActionBarParser().parseActionBar(actionBar);
         event.message = new ChatComponentText(restMessage);
     }
 
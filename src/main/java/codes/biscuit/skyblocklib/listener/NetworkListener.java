@@ -1,6 +1,9 @@
 package codes.biscuit.skyblocklib.listener;
 
 import codes.biscuit.skyblocklib.event.SkyblockLeftEvent;
+import codes.biscuit.skyblocklib.scoreboard.ScoreboardPacketHandler;
+import codes.biscuit.skyblocklib.scoreboard.SidebarModel;
+import io.netty.channel.ChannelPipeline;
 import net.minecraftforge.fml.common.eventhandler.EventBus;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.network.FMLNetworkEvent;
@@ -11,9 +14,22 @@ import net.minecraftforge.fml.common.network.FMLNetworkEvent;
 public class NetworkListener {
 
     private final EventBus EVENT_BUS;
+    private final SidebarModel sidebarModel;
 
-    public NetworkListener(EventBus EVENT_BUS) {
+    public NetworkListener(EventBus EVENT_BUS, SidebarModel sidebarModel) {
         this.EVENT_BUS = EVENT_BUS;
+        this.sidebarModel = sidebarModel;
+    }
+
+    @SubscribeEvent
+    public void onConnect(FMLNetworkEvent.ClientConnectedToServerEvent event) {
+        // Read the scoreboard packets of the new connection, before Minecraft handles them
+        sidebarModel.reset();
+        ChannelPipeline pipeline = event.manager.channel().pipeline();
+        if (pipeline.get(ScoreboardPacketHandler.NAME) == null) {
+            pipeline.addBefore(ScoreboardPacketHandler.PACKET_HANDLER, ScoreboardPacketHandler.NAME,
+                    new ScoreboardPacketHandler(sidebarModel));
+        }
     }
 
     @SubscribeEvent
@@ -1,6 +1,7 @@
 package codes.biscuit.skyblocklib.listener;
 
 import codes.biscuit.skyblocklib.SkyblockLib;
+import codes.biscuit.skyblocklib.event.SkyblockAbilityEvent;
 import codes.biscuit.skyblocklib.event.SkyblockJoinedEvent;
 import codes.biscuit.skyblocklib.event.SkyblockLeftEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
@@ -13,11 +14,20 @@ public class SkyblockListener {
     @SubscribeEvent
     public void onSkyblockJoined(SkyblockJoinedEvent event) {
         SkyblockLib.getSkyblock().setOnSkyblock(true);
+        SkyblockLib.getInstance().getSessionStatistics().onJoined(System.currentTimeMillis());
     }
 
     @SubscribeEvent
     public void onSkyblockLeft(SkyblockLeftEvent event) {
         SkyblockLib.getSkyblock().setOnSkyblock(false);
+        SkyblockLib.getInstance().getSessionStatistics().onLeft(System.currentTimeMillis());
+    }
+
+    @SubscribeEvent
+    public void onAbilityUsed(SkyblockAbilityEvent event) {
+        SkyblockLib.getSkyblockPlayer().getAttributePredictor().onAbilityUsed(event.getAbility());
+        SkyblockLib.getInstance().getSessionStatistics().onAbilityUsed(event.getAbility());
+        SkyblockLib.getInstance().getCooldownManager().onAbilityUsed(event.getAbility(), System.currentTimeMillis());
     }
 
 }
@@ -1,98 +1,82 @@
 package codes.biscuit.skyblocklib.listener;
 
 import codes.biscuit.skyblocklib.SkyblockLib;
-import codes.biscuit.skyblocklib.event.SkyblockJoinedEvent;
-import codes.biscuit.skyblocklib.event.SkyblockLeftEvent;
+import codes.biscuit.skyblocklib.item.HeldItemResolver;
 import codes.biscuit.skyblocklib.item.PowerOrbType;
 import codes.biscuit.skyblocklib.managers.PowerOrbManager;
 import codes.biscuit.skyblocklib.parsers.ScoreboardParser;
-import codes.biscuit.skyblocklib.utils.TextUtils;
-import com.google.common.collect.Iterables;
-import com.google.common.collect.Lists;
-import com.google.common.collect.Sets;
+import codes.biscuit.skyblocklib.recording.SessionRecorder;
+import codes.biscuit.skyblocklib.scoreboard.SidebarModel;
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.entity.EntityPlayerSP;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.item.EntityArmorStand;
-import net.minecraft.scoreboard.Score;
-import net.minecraft.scoreboard.ScoreObjective;
-import net.minecraft.scoreboard.ScorePlayerTeam;
-import net.minecraft.scoreboard.Scoreboard;
-import net.minecraft.world.World;
 import net.minecraftforge.event.entity.living.LivingEvent;
 import net.minecraftforge.fml.common.eventhandler.EventBus;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
 
-import java.util.Collection;
-import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Listens to various tick events
  */
 public class TickListener {
 
-    private static final Set<String> SKYBLOCK_IN_ALL_LANGUAGES = Sets.newHashSet("SKYBLOCK","\u7A7A\u5C9B\u751F\u5B58");
-
     private final EventBus EVENT_BUS;
     private final ScoreboardParser scoreboardParser;
 
-    public TickListener(EventBus EVENT_BUS) {
+    public TickListener(EventBus EVENT_BUS, ScoreboardParser scoreboardParser) {
         this.EVENT_BUS = EVENT_BUS;
-        scoreboardParser = new ScoreboardParser(EVENT_BUS);
+        this.scoreboardParser = scoreboardParser;
     }
 
     @SubscribeEvent
     public void onTick(TickEvent.ClientTickEvent event) {
-        Minecraft mc = Minecraft.getMinecraft();
-        World world = mc.theWorld;
-        if(world != null) {
-            Scoreboard scoreboard = world.getScoreboard();
-            ScoreObjective sidebarObjective = world.getScoreboard().getObjectiveInDisplaySlot(1);
-            if (sidebarObjective != null) {
-                String objectiveName = TextUtils.stripColor(sidebarObjective.getDisplayName());
-
-                // Check if the scoreboard is a Skyblock scoreboard by checking the display name
-                // against the SKYBLOCK title in various languages
-                boolean skyblockScoreboard = false;
-                for (String skyblock : SKYBLOCK_IN_ALL_LANGUAGES) {
-                    if (objectiveName.startsWith(skyblock)) {
-                        skyblockScoreboard = true;
-                    }
-                }
+        if (event.phase == TickEvent.Phase.START) {
+            SkyblockLib.getInstance().getSessionRecorder().tick();
+            updateSidebar();
+        }
+        if (event.phase == TickEvent.Phase.END && SkyblockLib.isOnSkyblock()) {
+            SkyblockLib.getSkyblockPlayer().getAttributePredictor().tick();
+            SkyblockLib.getSkyblockPlayer().publishState();
+        }
+        if (event.phase == TickEvent.Phase.END) {
+            updateHeldItem();
+            SkyblockLib.getInstance().getCooldownManager().tick(System.currentTimeMillis());
+            SkyblockLib.getInstance().getStateExporter().export();
+        }
+    }
 
-                if (skyblockScoreboard) {
-                    // If it's a Skyblock scoreboard and the player has not joined Skyblock yet,
-                    // this indicates that he did so.
-                    if(!SkyblockLib.getSkyblock().isOnSkyblock()) {
-                        EVENT_BUS.post(new SkyblockJoinedEvent());
-                    }
-                } else {
-                    // If it's not a Skyblock scoreboard, the player must have left Skyblock and
-                    // be in some other Hypixel lobby or game.
-                    if(SkyblockLib.getSkyblock().isOnSkyblock()) {
-                        EVENT_BUS.post(new SkyblockLeftEvent());
-                    }
-                }
+    /**
+     * Applies the scoreboard packets of the last tick and parses the sidebar if its title or any of its lines changed.
+     */
+    private void updateSidebar() {
+        SidebarModel sidebarModel = SkyblockLib.getInstance().getSidebarModel();
+        if (!sidebarModel.update()) {
+            scoreboardParser.skipSidebar();
+            return;
+        }
 
-                // Get a list of the lines in the scoreboard to parse them
-                Collection<Score> scoreboardScores = scoreboard.getSortedScores(sidebarObjective);
-                List<Score> list = Lists.newArrayList(scoreboardScores.stream().filter(p_apply_1_ -> p_apply_1_.getPlayerName() != null && !p_apply_1_.getPlayerName().startsWith("#")).collect(Collectors.toList()));
-                if (list.size() > 15) {
-                    scoreboardScores = Lists.newArrayList(Iterables.skip(list, scoreboardScores.size() - 15));
-                } else {
-                    scoreboardScores = list;
-                }
-                List<String> scoreboardLines = scoreboardScores
-                        .stream()
-                        .map(line ->
-                                ScorePlayerTeam.formatPlayerName(scoreboard.getPlayersTeam(line.getPlayerName()), line.getPlayerName()))
-                        .collect(Collectors.toList());
+        // Copying the lines for the recorder is only worth it while it records
+        String title = sidebarModel.getTitle();
+        SessionRecorder sessionRecorder = SkyblockLib.getInstance().getSessionRecorder();
+        if (title != null && sessionRecorder.isStarted()) {
+            sessionRecorder.recordScoreboard(title, sidebarModel.getLines());
+        }
+        // Also when the sidebar is gone, so its information is too
+        scoreboardParser.parseSidebar(sidebarModel);
+    }
 
-                // Parse the scoreboard lines
-                scoreboardParser.parseScoreboard(scoreboardLines);
-            }
+    /**
+     * Resolves the held item and drops the charges of the previous item when it changed.
+     */
+    private void updateHeldItem() {
+        HeldItemResolver heldItemResolver = SkyblockLib.getInstance().getHeldItemResolver();
+        EntityPlayerSP player = Minecraft.getMinecraft().thePlayer;
+        if (player == null) {
+            heldItemResolver.reset();
+        } else if (heldItemResolver.update(player.inventory.currentItem, player.inventory.getCurrentItem())) {
+            SkyblockLib.getInstance().getActionBarParser().onHeldItemChanged();
         }
     }
 
@@ -0,0 +1,57 @@
+package codes.biscuit.skyblocklib.managers;
+
+import codes.biscuit.skyblocklib.model.SkyblockItemAbility;
+
+/**
+ * Pairs up the announcements of used abilities from chat and the action bar, so each use only fires one
+ * {@link codes.biscuit.skyblocklib.event.SkyblockAbilityEvent}. Skyblock can announce a use in both places, in any
+ * order, and abilities can be used faster than the announcements arrive.
+ * <p>
+ * Announcements of the same ability from one source are counted until the other source announces them as well. Each
+ * announcement from the other source within {@link #PAIRING_MILLIS} is the same use as one of the counted ones and gets
+ * dropped, any further one is a new use.
+ */
+public class AbilityAnnouncements {
+
+    /**
+     * Maximum time between the announcements of the same use in chat and the action bar
+     */
+    public static final long PAIRING_MILLIS = 1000;
+
+    public enum Source {
+        CHAT,
+        ACTION_BAR
+    }
+
+    private SkyblockItemAbility lastAbility;
+    private Source lastSource;
+    private long lastTime;
+    private int unpairedCount;
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Announces a used ability.
+     *
+     * @param ability The used ability
+     * @param source Where the use was announced
+     * @param now Current time in milliseconds
+     * @return Whether this is a new use, which should fire an event, or {@code false} if the other source already
+     *         announced it
+     */
+    public boolean announce(SkyblockItemAbility ability, Source source, long now) {
+        boolean sameAbility = ability == lastAbility && now - lastTime <= PAIRING_MILLIS;
+        if (sameAbility && source != lastSource && unpairedCount > 0) {
+            unpairedCount--;
+            return false;
+        }
+        if (sameAbility && source == lastSource) {
+            unpairedCount++;
+        } else {
+            lastAbility = ability;
+            lastSource = source;
+            unpairedCount = 1;
+        }
+        lastTime = now;
+        return true;
+    }
+}
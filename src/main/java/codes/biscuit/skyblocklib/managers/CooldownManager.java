@@ -0,0 +1,191 @@
+package codes.biscuit.skyblocklib.managers;
+
+import codes.biscuit.skyblocklib.event.SkyblockAbilityReadyEvent;
+import codes.biscuit.skyblocklib.model.SkyblockItemAbility;
+import codes.biscuit.skyblocklib.parsers.ActionBarParser;
+import codes.biscuit.skyblocklib.parsers.SectionSubscription;
+import net.minecraftforge.fml.common.eventhandler.EventBus;
+
+import java.util.Arrays;
+
+/**
+ * Keeps track of the cooldowns of used item abilities, based on {@link SkyblockItemAbility#getCooldownSeconds()}.
+ * <p>
+ * The time an ability is ready again is kept in an array indexed by the
+ * {@link ItemAbilityFile#getAbilityIndex(SkyblockItemAbility) ability index}, so checking a cooldown is a single
+ * lookup. Running cooldowns are also kept in a queue ordered by the time they run out, so every tick only the
+ * earliest one needs to be checked, and a {@link SkyblockAbilityReadyEvent} is fired exactly once per cooldown.
+ * <p>
+ * Cooldowns are only tracked while the manager is {@link #setEnabled(boolean) enabled}, which subscribes to the
+ * ability section of the action bar so every use is seen.
+ */
+public class CooldownManager {
+
+    private final ItemAbilityFile itemAbilityFile;
+    private final EventBus eventBus;
+
+    private final long[] lastUsed;
+    private final long[] readyAt;
+
+    // ----------------------------------
+    // | Binary min-heap of running cooldowns.
+    // | Entries of cooldowns that were restarted
+    // | stay in it and are skipped once they
+    // | reach the top.
+    // ----------------------------------
+    private long[] queueDeadlines = new long[8];
+    private int[] queueAbilities = new int[8];
+    private int queueSize;
+
+    private final SectionSubscription subscription = new SectionSubscription(ActionBarParser.ABILITY_TRIGGER);
+
+    public CooldownManager(ItemAbilityFile itemAbilityFile, EventBus eventBus) {
+        this.itemAbilityFile = itemAbilityFile;
+        this.eventBus = eventBus;
+        lastUsed = new long[itemAbilityFile.getAbilityCount()];
+        readyAt = new long[itemAbilityFile.getAbilityCount()];
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Set the action bar parser the ability uses come from, which the manager subscribes to while it's enabled.
+     *
+     * @param actionBarParser The action bar parser or {@code null}
+     */
+    public void setActionBarParser(ActionBarParser actionBarParser) {
+        subscription.setActionBarParser(actionBarParser);
+    }
+
+    /**
+     * Set whether cooldowns are tracked. Running cooldowns are kept while it's disabled, but new uses aren't
+     * recorded. The manager is disabled by default.
+     *
+     * @param enabled Whether cooldowns are tracked
+     */
+    public void setEnabled(boolean enabled) {
+        subscription.setEnabled(enabled);
+    }
+
+    /**
+     * @return Whether cooldowns are tracked
+     */
+    public boolean isEnabled() {
+        return subscription.isEnabled();
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Starts the cooldown of a used ability.
+     *
+     * @param ability The ability
+     * @param now Current time in milliseconds
+     */
+    public void onAbilityUsed(SkyblockItemAbility ability, long now) {
+        int index = itemAbilityFile.getAbilityIndex(ability);
+        if (index < 0 || !subscription.isEnabled()) {
+            return;
+        }
+        lastUsed[index] = now;
+        if (ability.getCooldownSeconds() > 0) {
+            readyAt[index] = now + ability.getCooldownSeconds() * 1000L;
+            offer(readyAt[index], index);
+        }
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Fires the events of all cooldowns that ran out.
+     *
+     * @param now Current time in milliseconds
+     */
+    public void tick(long now) {
+        while (queueSize > 0 && queueDeadlines[0] <= now) {
+            long deadline = queueDeadlines[0];
+            int index = queueAbilities[0];
+            poll();
+            if (readyAt[index] == deadline) {
+                eventBus.post(new SkyblockAbilityReadyEvent(itemAbilityFile.getAbility(index)));
+            }
+        }
+    }
+
+    /**
+     * @param ability The ability
+     * @param now Current time in milliseconds
+     * @return Whether the ability isn't on cooldown
+     */
+    public boolean isReady(SkyblockItemAbility ability, long now) {
+        return getRemainingMillis(ability, now) == 0;
+    }
+
+    /**
+     * @param ability The ability
+     * @param now Current time in milliseconds
+     * @return Time until the ability is ready again in milliseconds or {@code 0} if it is ready
+     */
+    public long getRemainingMillis(SkyblockItemAbility ability, long now) {
+        int index = itemAbilityFile.getAbilityIndex(ability);
+        return index < 0 ? 0 : Math.max(readyAt[index] - now, 0);
+    }
+
+    /**
+     * @param ability The ability
+     * @return Time the ability was last used in milliseconds or {@code 0} if it wasn't used yet
+     */
+    public long getLastUsed(SkyblockItemAbility ability) {
+        int index = itemAbilityFile.getAbilityIndex(ability);
+        return index < 0 ? 0 : lastUsed[index];
+    }
+
+    /**
+     * Forgets all cooldowns without firing their events, like when the player left Skyblock.
+     */
+    public void reset() {
+        Arrays.fill(lastUsed, 0);
+        Arrays.fill(readyAt, 0);
+        queueSize = 0;
+    }
+
+    private void offer(long deadline, int index) {
+        if (queueSize == queueDeadlines.length) {
+            queueDeadlines = Arrays.copyOf(queueDeadlines, queueSize * 2);
+            queueAbilities = Arrays.copyOf(queueAbilities, queueSize * 2);
+        }
+        int position = queueSize++;
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (queueDeadlines[parent] <= deadline) {
+                break;
+            }
+            queueDeadlines[position] = queueDeadlines[parent];
+            queueAbilities[position] = queueAbilities[parent];
+            position = parent;
+        }
+        queueDeadlines[position] = deadline;
+        queueAbilities[position] = index;
+    }
+
+    private void poll() {
+        queueSize--;
+        long deadline = queueDeadlines[queueSize];
+        int index = queueAbilities[queueSize];
+        int position = 0;
+        while (true) {
+            int child = position * 2 + 1;
+            if (child >= queueSize) {
+                break;
+            }
+            if (child + 1 < queueSize && queueDeadlines[child + 1] < queueDeadlines[child]) {
+                child++;
+            }
+            if (deadline <= queueDeadlines[child]) {
+                break;
+            }
+            queueDeadlines[position] = queueDeadlines[child];
+            queueAbilities[position] = queueAbilities[child];
+            position = child;
+        }
+        queueDeadlines[position] = deadline;
+        queueAbilities[position] = index;
+    }
+}
@@ -13,7 +13,13 @@ import java.io.*;
 import java.lang.reflect.Type;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -30,6 +36,18 @@ public class ItemAbilityFile {
     private static final String FILE_NAME = "item-abilities.json";
 
     private final Map<String, SkyblockItemAbility> itemAbilityMap = new HashMap<>();
+    /**
+     * All abilities sorted by name, their position is their index
+     */
+    private SkyblockItemAbility[] indexedAbilities;
+    /**
+     * Index of every ability, by identity so equal abilities of another file don't get this file's index
+     */
+    private final Map<SkyblockItemAbility, Integer> abilityIndices = new IdentityHashMap<>();
+    /**
+     * Abilities by the Skyblock IDs of the items that have them
+     */
+    private final Map<String, List<SkyblockItemAbility>> itemAbilities = new HashMap<>();
     private final Gson gson = new Gson();
     private final Type itemAbilityMapType = new TypeToken<Map<String, SkyblockItemAbility>>() {}.getType();
 
@@ -43,6 +61,16 @@ public class ItemAbilityFile {
         return new ItemAbilityFile(true);
     }
 
+    /**
+     * Create a new instance that only loads from the local file in the resources folder, without fetching the remote
+     * file.
+     *
+     * @return ItemAbilityFile instance
+     */
+    public static ItemAbilityFile fromFile() {
+        return new ItemAbilityFile(false);
+    }
+
     /**
      * Create a new instance with a given map of abilities.
      *
@@ -58,11 +86,41 @@ public class ItemAbilityFile {
         if(loadRemote) {
             fetchRemoteFile();
         }
+        indexAbilities();
     }
 
     private ItemAbilityFile(Map<String, SkyblockItemAbility> abilityMap) {
         Preconditions.checkArgument(abilityMap != null);
         itemAbilityMap.putAll(abilityMap);
+        indexAbilities();
+    }
+
+    /**
+     * Gives every ability an index from 0 to {@link #getAbilityCount()}, sorted by name.
+     */
+    private void indexAbilities() {
+        indexedAbilities = itemAbilityMap.values().toArray(new SkyblockItemAbility[0]);
+        Arrays.sort(indexedAbilities, Comparator.comparing(SkyblockItemAbility::getName));
+        abilityIndices.clear();
+        for (int i = 0; i < indexedAbilities.length; i++) {
+            abilityIndices.put(indexedAbilities[i], i);
+        }
+        itemAbilities.clear();
+        for (SkyblockItemAbility ability : indexedAbilities) {
+            addItemAbility(ability.getItemId(), ability);
+            ability.getOtherItems().ifPresent(otherItems -> {
+                for (String otherItem : otherItems) {
+                    addItemAbility(otherItem, ability);
+                }
+            });
+        }
+        itemAbilities.replaceAll((itemId, abilities) -> Collections.unmodifiableList(abilities));
+    }
+
+    private void addItemAbility(String itemId, SkyblockItemAbility ability) {
+        if (itemId != null) {
+            itemAbilities.computeIfAbsent(itemId, id -> new ArrayList<>()).add(ability);
+        }
     }
 
     /**
@@ -138,4 +196,44 @@ public class ItemAbilityFile {
         return Optional.ofNullable(itemAbilityMap.get(abilityName));
     }
 
+    /**
+     * @return The amount of abilities, indices go from 0 to this count
+     */
+    public int getAbilityCount() {
+        return indexedAbilities.length;
+    }
+
+    /**
+     * Get an ability by its index. Indices are dense, so they can be used for arrays that hold a value per ability.
+     *
+     * @param index Index of the ability
+     * @return The ability with that index
+     */
+    public SkyblockItemAbility getAbility(int index) {
+        return indexedAbilities[index];
+    }
+
+    /**
+     * Get the index of an ability. The indices are kept by this file, so the same ability instance can belong to
+     * several files with a different index in each.
+     *
+     * @param ability The ability
+     * @return Index of the ability or {@code -1} if it's not in this file
+     */
+    public int getAbilityIndex(SkyblockItemAbility ability) {
+        Integer index = abilityIndices.get(ability);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Get the abilities an item has, by the item's Skyblock ID like {@code ASPECT_OF_THE_END}.
+     * Lookup is case-sensitive!
+     *
+     * @param itemId Skyblock ID of the item
+     * @return The abilities of the item, empty if it has none
+     */
+    public List<SkyblockItemAbility> getAbilitiesOfItem(String itemId) {
+        return itemAbilities.getOrDefault(itemId, Collections.emptyList());
+    }
+
 }
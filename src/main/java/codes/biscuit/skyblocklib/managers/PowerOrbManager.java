@@ -3,10 +3,8 @@ package codes.biscuit.skyblocklib.managers;
 import codes.biscuit.skyblocklib.item.PowerOrb;
 import codes.biscuit.skyblocklib.item.PowerOrbType;
 
-import java.util.Comparator;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * Class for managing active PowerOrbs around the player.
@@ -24,7 +22,9 @@ public class PowerOrbManager {
         return instance;
     }
 
-    private Map<PowerOrbType, PowerOrb> powerOrbEntryMap = new HashMap<>();
+    private static final PowerOrbType[] POWER_ORB_TYPES = PowerOrbType.values();
+
+    private Map<PowerOrbType, PowerOrb> powerOrbEntryMap = new EnumMap<>(PowerOrbType.class);
 
     /**
      * Put any detected orb into the list of active orbs.
@@ -39,15 +39,21 @@ public class PowerOrbManager {
     /**
      * Get the active orb with the highest priority. Priority is based on the value defined in
      * {@link PowerOrbType#getPriority()} and the returned orb is guaranteed to have been active at least 100ms ago.
+     * This is called every tick, so it doesn't allocate anything.
      *
      * @return Highest priority orb or null if none is around
      */
     public PowerOrb get() {
-        Optional<Map.Entry<PowerOrbType, PowerOrb>> max = powerOrbEntryMap.entrySet().stream()
-                .filter(powerOrbEntryEntry -> powerOrbEntryEntry.getValue().getTimestamp() + 100 > System.currentTimeMillis())
-                .max(Comparator.comparing(Map.Entry::getKey));
-
-        return max.map(Map.Entry::getValue).orElse(null);
+        long now = System.currentTimeMillis();
+        PowerOrb max = null;
+        for (PowerOrbType powerOrbType : POWER_ORB_TYPES) {
+            PowerOrb powerOrb = powerOrbEntryMap.get(powerOrbType);
+            if (powerOrb != null && powerOrb.getTimestamp() + 100 > now
+                    && (max == null || powerOrbType.getPriority() > max.getPowerOrbType().getPriority())) {
+                max = powerOrb;
+            }
+        }
+        return max;
     }
 
 }
@@ -0,0 +1,241 @@
+package codes.biscuit.skyblocklib.managers;
+
+import codes.biscuit.skyblocklib.model.Skill;
+import codes.biscuit.skyblocklib.model.SkyblockItemAbility;
+import codes.biscuit.skyblocklib.parsers.ActionBarParser;
+import codes.biscuit.skyblocklib.parsers.SectionSubscription;
+
+import java.util.Arrays;
+
+/**
+ * Totals of the current session, like the mana spent per ability, the time spent on Skyblock and the XP gained per
+ * skill. They are added up as events come in, from the {@link codes.biscuit.skyblocklib.event.SkyblockJoinedEvent},
+ * {@link codes.biscuit.skyblocklib.event.SkyblockLeftEvent}, {@link codes.biscuit.skyblocklib.event.SkyblockAbilityEvent}
+ * and skill progress in the action bar.
+ * <p>
+ * All counters are primitive arrays indexed by the {@link ItemAbilityFile#getAbilityIndex(SkyblockItemAbility) ability
+ * index} or the {@link Skill} ordinal, so counting doesn't allocate anything. A session lasts until it is
+ * {@link #reset(long) reset}.
+ * <p>
+ * Abilities and skill XP are only counted while the statistics are {@link #setEnabled(boolean) enabled}, which
+ * subscribes to the ability and skill sections of the action bar so nothing is missed. The time on Skyblock is always
+ * counted.
+ */
+public class SessionStatistics {
+
+    private final ItemAbilityFile itemAbilityFile;
+
+    private final int[] abilityUses;
+    private final long[] abilityManaSpent;
+    private int totalAbilityUses;
+    private long totalManaSpent;
+
+    private final double[] skillXp = new double[Skill.values().length];
+
+    private long skyblockMillis;
+    private long joinedTime = -1;
+
+    private final SectionSubscription subscription = new SectionSubscription(ActionBarParser.ABILITY_TRIGGER,
+            ActionBarParser.SKILL_TRIGGER);
+
+    public SessionStatistics(ItemAbilityFile itemAbilityFile) {
+        this.itemAbilityFile = itemAbilityFile;
+        abilityUses = new int[itemAbilityFile.getAbilityCount()];
+        abilityManaSpent = new long[itemAbilityFile.getAbilityCount()];
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Set the action bar parser the abilities and skill XP come from, which the statistics subscribe to while they
+     * are enabled.
+     *
+     * @param actionBarParser The action bar parser or {@code null}
+     */
+    public void setActionBarParser(ActionBarParser actionBarParser) {
+        subscription.setActionBarParser(actionBarParser);
+    }
+
+    /**
+     * Set whether abilities and skill XP are counted. The statistics are disabled by default.
+     *
+     * @param enabled Whether abilities and skill XP are counted
+     */
+    public void setEnabled(boolean enabled) {
+        subscription.setEnabled(enabled);
+    }
+
+    /**
+     * @return Whether abilities and skill XP are counted
+     */
+    public boolean isEnabled() {
+        return subscription.isEnabled();
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Starts counting the time on Skyblock.
+     *
+     * @param now Current time in milliseconds
+     */
+    public void onJoined(long now) {
+        if (joinedTime < 0) {
+            joinedTime = now;
+        }
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Stops counting the time on Skyblock.
+     *
+     * @param now Current time in milliseconds
+     */
+    public void onLeft(long now) {
+        if (joinedTime >= 0) {
+            skyblockMillis += now - joinedTime;
+            joinedTime = -1;
+        }
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Counts a used ability and the mana it cost.
+     *
+     * @param ability The ability
+     */
+    public void onAbilityUsed(SkyblockItemAbility ability) {
+        if (!subscription.isEnabled()) {
+            return;
+        }
+        totalAbilityUses++;
+        totalManaSpent += ability.getManaCost();
+        int index = itemAbilityFile.getAbilityIndex(ability);
+        if (index >= 0) {
+            abilityUses[index]++;
+            abilityManaSpent[index] += ability.getManaCost();
+        }
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Adds gained skill XP.
+     *
+     * @param skill The skill
+     * @param xp The gained XP
+     */
+    public void onSkillXp(Skill skill, double xp) {
+        if (!subscription.isEnabled()) {
+            return;
+        }
+        skillXp[skill.ordinal()] += xp;
+    }
+
+    /**
+     * Starts a new session, setting all totals to 0.
+     *
+     * @param now Current time in milliseconds
+     */
+    public void reset(long now) {
+        Arrays.fill(abilityUses, 0);
+        Arrays.fill(abilityManaSpent, 0);
+        Arrays.fill(skillXp, 0);
+        totalAbilityUses = 0;
+        totalManaSpent = 0;
+        skyblockMillis = 0;
+        if (joinedTime >= 0) {
+            joinedTime = now;
+        }
+    }
+
+    /**
+     * @param now Current time in milliseconds
+     * @return Time spent on Skyblock this session in milliseconds
+     */
+    public long getSkyblockMillis(long now) {
+        return joinedTime < 0 ? skyblockMillis : skyblockMillis + now - joinedTime;
+    }
+
+    /**
+     * @return Amount of used abilities
+     */
+    public int getTotalAbilityUses() {
+        return totalAbilityUses;
+    }
+
+    /**
+     * @return Mana spent on all abilities
+     */
+    public long getTotalManaSpent() {
+        return totalManaSpent;
+    }
+
+    /**
+     * @param ability The ability
+     * @return How often the ability was used
+     */
+    public int getAbilityUses(SkyblockItemAbility ability) {
+        int index = itemAbilityFile.getAbilityIndex(ability);
+        return index < 0 ? 0 : abilityUses[index];
+    }
+
+    /**
+     * @param ability The ability
+     * @return Mana spent on the ability
+     */
+    public long getManaSpent(SkyblockItemAbility ability) {
+        int index = itemAbilityFile.getAbilityIndex(ability);
+        return index < 0 ? 0 : abilityManaSpent[index];
+    }
+
+    /**
+     * @param now Current time in milliseconds
+     * @return Used abilities per minute on Skyblock or {@code 0} if no time was spent on Skyblock yet
+     */
+    public double getAbilitiesPerMinute(long now) {
+        long millis = getSkyblockMillis(now);
+        return millis <= 0 ? 0 : totalAbilityUses * 60000.0 / millis;
+    }
+
+    /**
+     * @param skill The skill
+     * @return XP gained in the skill
+     */
+    public double getSkillXp(Skill skill) {
+        return skillXp[skill.ordinal()];
+    }
+
+    /**
+     * @return XP gained in all skills
+     */
+    public double getTotalSkillXp() {
+        double total = 0;
+        for (double xp : skillXp) {
+            total += xp;
+        }
+        return total;
+    }
+
+    /**
+     * Summarizes the session with all totals that aren't 0.
+     *
+     * @param now Current time in milliseconds
+     * @return Multi-line summary
+     */
+    public String getSummary(long now) {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("Time on Skyblock: %d min%n", getSkyblockMillis(now) / 60000));
+        summary.append(String.format("Abilities: %d (%.1f per minute), %d mana%n", totalAbilityUses,
+                getAbilitiesPerMinute(now), totalManaSpent));
+        for (int i = 0; i < abilityUses.length; i++) {
+            if (abilityUses[i] > 0) {
+                summary.append(String.format("  %s: %d, %d mana%n", itemAbilityFile.getAbility(i).getName(),
+                        abilityUses[i], abilityManaSpent[i]));
+            }
+        }
+        for (Skill skill : Skill.values()) {
+            if (skillXp[skill.ordinal()] > 0) {
+                summary.append(String.format("%s XP: %.1f%n", skill.getName(), skillXp[skill.ordinal()]));
+            }
+        }
+        return summary.toString();
+    }
+}
@@ -0,0 +1,73 @@
+package codes.biscuit.skyblocklib.model;
+
+/**
+ * The Skyblock skills, as named in skill progress messages of the action bar.
+ */
+public enum Skill {
+
+    COMBAT("Combat"),
+    MINING("Mining"),
+    FARMING("Farming"),
+    FORAGING("Foraging"),
+    FISHING("Fishing"),
+    ENCHANTING("Enchanting"),
+    ALCHEMY("Alchemy"),
+    TAMING("Taming"),
+    CARPENTRY("Carpentry"),
+    RUNECRAFTING("Runecrafting");
+
+    private static final Skill[] VALUES = values();
+
+    private final String name;
+
+    /**
+     * @param name The name of the skill in the action bar
+     */
+    Skill(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return The name of the skill in the action bar, like "Combat"
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get a skill from its name.
+     * Returns null if no skill matching the given name was found.
+     *
+     * @param name Name of the skill, like "Combat"
+     * @return The skill or null
+     */
+    public static Skill fromName(CharSequence name) {
+        return fromName(name, 0, name.length());
+    }
+
+    /**
+     * Get a skill from its name inside a text, without copying it out of the text.
+     * Returns null if no skill matching the given name was found.
+     *
+     * @param text Text containing the name
+     * @param start Start of the name in the text
+     * @param end End of the name in the text
+     * @return The skill or null
+     */
+    public static Skill fromName(CharSequence text, int start, int end) {
+        for (Skill skill : VALUES) {
+            String skillName = skill.name;
+            if (skillName.length() != end - start) {
+                continue;
+            }
+            int i = 0;
+            while (i < skillName.length() && skillName.charAt(i) == text.charAt(start + i)) {
+                i++;
+            }
+            if (i == skillName.length()) {
+                return skill;
+            }
+        }
+        return null;
+    }
+}
@@ -8,6 +8,7 @@ package codes.biscuit.skyblocklib.model;
  */
 public class SkillUpdate {
 
+    private final Skill skill;
     private final String skillName;
     private final double currentProgress;
     private final double maxProgress;
@@ -23,11 +24,52 @@ public class SkillUpdate {
      * @param increase XP that was just earned
      */
     public SkillUpdate(String skillName, double currentProgress, double maxProgress, double increase) {
+        this(skillName, currentProgress, maxProgress, increase, System.currentTimeMillis());
+    }
+
+    /**
+     * Create a skill update by the name of the skill that happened at a given time.
+     *
+     * @param skillName Name of the skill
+     * @param currentProgress Current XP of that skill
+     * @param maxProgress XP until the next level of that skill
+     * @param increase XP that was just earned
+     * @param timestamp Time of the update in milliseconds
+     */
+    public SkillUpdate(String skillName, double currentProgress, double maxProgress, double increase, long timestamp) {
+        this.skill = Skill.fromName(skillName);
         this.skillName = skillName;
         this.currentProgress = currentProgress;
         this.maxProgress = maxProgress;
         this.increase = increase;
-        timestamp = System.currentTimeMillis();
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Create a skill update of a known skill that happened at a given time.
+     *
+     * @param skill The skill
+     * @param currentProgress Current XP of that skill
+     * @param maxProgress XP until the next level of that skill
+     * @param increase XP that was just earned
+     * @param timestamp Time of the update in milliseconds
+     */
+    public SkillUpdate(Skill skill, double currentProgress, double maxProgress, double increase, long timestamp) {
+        this.skill = skill;
+        this.skillName = skill.getName();
+        this.currentProgress = currentProgress;
+        this.maxProgress = maxProgress;
+        this.increase = increase;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Returns {@code null} for skills that are not known to SkyblockLib yet, use {@link #getSkillName()} for those.
+     *
+     * @return The progressed skill
+     */
+    public Skill getSkill() {
+        return skill;
     }
 
     /**
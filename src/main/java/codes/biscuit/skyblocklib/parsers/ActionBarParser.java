@@ -1,16 +1,21 @@
 package codes.biscuit.skyblocklib.parsers;
 
 import codes.biscuit.skyblocklib.SkyblockLib;
+import codes.biscuit.skyblocklib.event.AttributesUpdateEvent;
+import codes.biscuit.skyblocklib.event.SkyblockAbilityEvent;
+import codes.biscuit.skyblocklib.managers.AbilityAnnouncements;
 import codes.biscuit.skyblocklib.model.ItemCharges;
+import codes.biscuit.skyblocklib.model.Skill;
 import codes.biscuit.skyblocklib.model.SkillUpdate;
 import codes.biscuit.skyblocklib.player.SkyblockPlayer;
 import codes.biscuit.skyblocklib.utils.ActionBarConsumer;
-import codes.biscuit.skyblocklib.utils.TextUtils;
+import codes.biscuit.skyblocklib.utils.ActionBarSectionConsumer;
+import codes.biscuit.skyblocklib.utils.SBLLog;
+import com.google.common.base.Preconditions;
+import net.minecraftforge.fml.common.eventhandler.EventBus;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * This class is used to parse action bar messages and get stats and other info out of them.
@@ -23,6 +28,7 @@ import java.util.regex.Pattern;
  * <li>Defense</li>
  * <li>Skill progress</li>
  * <li>Item charges/tickers</li>
+ * <li>Used abilities, which fire a {@link SkyblockAbilityEvent}</li>
  * </ul>
  * <p>
  * In general, the action bar is divided into sections separated by 3 or more spaces (usually 5, zombie tickers by 4
@@ -40,8 +46,16 @@ import java.util.regex.Pattern;
  * <p>
  * The general consumer is ran after every thing else, on every single section. So you can remove the entire action bar
  * by simply setting {@link ActionBarConsumer#REMOVE_TEXT_CONSUMER} as the general consumer.
- * Or you can run your own checks to cover sections that aren't handled by SkyblockLib by default.<br>
+ * Or you can run your own checks to cover sections that aren't handled by SkyblockLib by default.
+ * <p>
+ * Every {@link ActionBarConsumer} gets its own copy of the section text. Consumers that run on every action bar should
+ * rather be an {@link ActionBarSectionConsumer}, which works on a view of the original message and writes changes into
+ * a reused builder. If no consumer changes anything, the original action bar message is returned as it is.<br>
  * See the documentation for the consumer-setters for more detailed information what their sections look like.
+ * <p>
+ * Sections are told apart by their trigger glyph, like {@code ❤} for health. Parsers for sections SkyblockLib
+ * doesn't know about yet can be added with {@link #registerSectionParser(String, ActionBarSectionParser, char...)}
+ * and then get consumers set on them like the built-in ones.
  * <h3>See the {@link ActionBarConsumer} documentation for more detailed information on how exactly to use one!</h3>
  * <p>
  * Here are some example action bars:
@@ -57,23 +71,126 @@ import java.util.regex.Pattern;
  * End Race:                   §d§lTHE END RACE §e00:52.370            §b147/147✎ Mana§r<br>
  * Woods Race:                 §A§LWOODS RACING §e00:31.520            §b147/147✎ Mana§r<br>
  * Trials of Fire:             §c1078/1078❤   §610 DPS   §c1 second     §b421/421✎ Mana§r<br>
+ * Using an Ability:           §c1390/1390❤     §b-50 Mana (§6Instant Transmission§b)     §b121/171✎ Mana§r<br>
  * </blockquote>
  */
 public class ActionBarParser {
 
-    private final Pattern COLLECTIONS_CHAT_PATTERN = Pattern.compile("§.\\+(?:§[0-9a-f])?([0-9,.]+) §?[0-9a-f]?([A-Za-z]+) (\\([0-9.,]+/[0-9.,]+\\))");
+    /**
+     * Glyph that identifies the health section
+     */
+    public static final char HEALTH_TRIGGER = '❤';
+    /**
+     * Glyph that identifies the defense section
+     */
+    public static final char DEFENSE_TRIGGER = '❈';
+    /**
+     * Glyph that identifies the mana section
+     */
+    public static final char MANA_TRIGGER = '✎';
+    /**
+     * Character that identifies the skill section
+     */
+    public static final char SKILL_TRIGGER = '(';
+    /**
+     * Glyph that identifies the charges section, {@code Ⓞ} identifies it as well
+     */
+    public static final char CHARGES_TRIGGER = 'ⓩ';
+    /**
+     * Character that identifies the section showing the mana cost of a used ability, only when it's followed by a digit
+     */
+    public static final char ABILITY_TRIGGER = '-';
+
+    private static final String SECTION_SEPARATOR = "     ";
 
     // ----------------------------------
-    // | Consumers that allow customization
+    // | Section types with their parsers and
+    // | the consumers that allow customization
     // | in terms of displayed sections in the
     // | action bar
     // ----------------------------------
-    private ActionBarConsumer healthConsumer;
-    private ActionBarConsumer manaConsumer;
-    private ActionBarConsumer defenseConsumer;
-    private ActionBarConsumer skillConsumer;
-    private ActionBarConsumer chargesConsumer;
-    private ActionBarConsumer generalConsumer;
+    private final ActionBarSectionType healthSection;
+    private final ActionBarSectionType manaSection;
+    private final ActionBarSectionType defenseSection;
+    private final ActionBarSectionType skillSection;
+    private final ActionBarSectionType chargesSection;
+    private final ActionBarSectionType abilitySection;
+    private ActionBarSectionConsumer generalConsumer;
+
+    private final SectionDispatchTable dispatchTable = new SectionDispatchTable();
+    private final ActionBarTokenizer tokenizer = new ActionBarTokenizer(dispatchTable);
+    private final NumberScanner numberScanner = new NumberScanner();
+    // Sections that are parsed on demand get their own view, so parsing them
+    // doesn't disturb a section that is currently being consumed
+    private final ActionBarSection pendingSectionView = new ActionBarSection(tokenizer);
+    private int messageCount;
+    // Time the last parsed action bar arrived, which sections parsed on demand later still belong to
+    private long messageTime;
+    private int actionBarCount;
+    private boolean parsing;
+    // This builder holds the text of unused sections that aren't displayed anywhere else in SBA
+    // so they can keep being displayed in the action bar
+    private final StringBuilder output = new StringBuilder();
+    private final StringBuilder replacement = new StringBuilder();
+
+    // ----------------------------------
+    // | Hypixel resends the same action bar
+    // | many times in a row, so the last
+    // | input and its result are kept around
+    // ----------------------------------
+    private String lastActionBar;
+    private String lastResult;
+
+    // ----------------------------------
+    // | Registered section types and recent
+    // | sections that couldn't be parsed
+    // ----------------------------------
+    private static final int UNPARSED_SECTION_SAMPLES = 16;
+    private final List<ActionBarSectionType> sectionTypes = new ArrayList<>();
+    private final ActionBarSectionType[] unparsedSectionTypes = new ActionBarSectionType[UNPARSED_SECTION_SAMPLES];
+    private final String[] unparsedSectionTexts = new String[UNPARSED_SECTION_SAMPLES];
+    private int unparsedSectionCount;
+
+    // ----------------------------------
+    // | The ability section stays in the action bar
+    // | for a while, so it's remembered to only
+    // | fire one event per use
+    // ----------------------------------
+    /**
+     * How long the ability section is displayed after a use. If it is still displayed after this time, the ability
+     * was used again.
+     */
+    private static final long ABILITY_DISPLAY_MILLIS = 2000;
+    private final StringBuilder abilityName = new StringBuilder();
+    private boolean abilityParsed;
+    private boolean abilityDisplayedBefore;
+    private String lastAbilitySection;
+    private int lastAbilityMessage;
+    private int lastAbilityMana;
+    private long lastAbilityTime;
+
+    private final SkyblockLib skyblockLib;
+    private final SkyblockPlayer skyblockPlayer;
+    private final EventBus eventBus;
+
+    /**
+     * @param skyblockLib The SkyblockLib instance, for the item abilities and the statistics of the session
+     * @param skyblockPlayer The player whose information is parsed
+     * @param eventBus The event bus to fire the events on
+     */
+    public ActionBarParser(SkyblockLib skyblockLib, SkyblockPlayer skyblockPlayer, EventBus eventBus) {
+        this.skyblockLib = skyblockLib;
+        this.skyblockPlayer = skyblockPlayer;
+        this.eventBus = eventBus;
+
+        healthSection = registerSectionParser("Health", this::parseHealth, HEALTH_TRIGGER);
+        defenseSection = registerSectionParser("Defense", this::parseDefense, DEFENSE_TRIGGER);
+        manaSection = registerSectionParser("Mana", this::parseMana, MANA_TRIGGER);
+        skillSection = registerSectionParser("Skill", this::parseSkill, SKILL_TRIGGER);
+        chargesSection = registerSectionParser("Charges", this::parseCharges, 'Ⓞ', CHARGES_TRIGGER);
+        abilitySection = registerSectionParser("Ability", this::parseAbility, ABILITY_TRIGGER);
+        // Nothing is subscribed here, the trackers that need every update subscribe while they are enabled
+    }
 
     /**
      * <h2>This should not be called outside SkyblockLib!</h2>
@@ -81,150 +198,411 @@ public class ActionBarParser {
      * to display instead.
      * Looks for Health, Defense, Mana, Skill XP and parses and uses the stats accordingly.
      * Only removes the stats from the new action bar when consumed.
+     * <p>
+     * If the action bar is identical to the last one, parsing is skipped entirely and the previous result is returned.
+     * The parsed stats are still the ones from that previous action bar in that case.
+     * <p>
+     * Sections are only parsed right away if their type has a consumer or {@link #subscribe(ActionBarSectionType)
+     * subscribers}. All others are just recognized and parsed once their values are read.
      *
      * @param actionBar Formatted action bar message
      * @return New action bar without parsed stats.
      */
     public String parseActionBar(String actionBar) {
-        // First split the action bar into sections
-        String[] splitMessage = actionBar.split(" {3,}");
-        // This list holds the text of unused sections that aren't displayed anywhere else in SBA
-        // so they can keep being displayed in the action bar
-        List<String> unusedSections = new LinkedList<>();
-
-        // health and mana section methods determine if prediction can be disabled, so enable both at first
-        // TODO: Predict?
-        // set charges to null so it doesn't get stale when the player changes items and the charges aren't visible anymore
-        SkyblockLib.getSkyblockPlayer().setCurrentItemCharges(null);
-        // set wand healing to 0 so it doesn't get stale
-        SkyblockLib.getSkyblockPlayer().getAttributes().setWandHealing(0);
+        return parseActionBar(actionBar, System.currentTimeMillis());
+    }
+
+    /**
+     * <h2>This should not be called outside SkyblockLib!</h2>
+     * Parses an action bar like {@link #parseActionBar(String)}, for an action bar that arrived at the given time.
+     * Everything that depends on the time, like the attribute history, the skill and charge trackers and telling
+     * apart repeated ability uses, uses that time instead of the current one.
+     *
+     * @param actionBar Formatted action bar message
+     * @param timestamp Time the action bar arrived in milliseconds
+     * @return New action bar without parsed stats.
+     */
+    public String parseActionBar(String actionBar, long timestamp) {
+        actionBarCount++;
+        if (actionBar.equals(lastActionBar)) {
+            return lastResult;
+        }
 
-        for (String section : splitMessage) {
+        // First find the sections, without copying them out of the action bar
+        tokenizer.tokenize(actionBar);
+        messageCount++;
+        messageTime = timestamp;
+
+        boolean changed = false;
+        boolean healthSectionFound = false;
+        for (int i = 0; i < tokenizer.getSectionCount(); i++) {
+            ActionBarSection section = tokenizer.getSection(i);
+            ActionBarSectionConsumer.Result result = ActionBarSectionConsumer.Result.KEEP;
             try {
-                String sectionReturn = parseSection(section);
-                if(generalConsumer != null) {
-                    sectionReturn = generalConsumer.consumeSection(section);
+                ActionBarSectionConsumer sectionConsumer = null;
+                ActionBarSectionType sectionType = dispatchTable.get(section.getTrigger());
+                healthSectionFound |= sectionType == healthSection;
+                if (sectionType != null) {
+                    if (sectionType.hasSubscribers() || sectionType.getConsumer() != null || generalConsumer != null) {
+                        sectionConsumer = parseSection(sectionType, section);
+                    } else {
+                        // Nothing needs this section right now, so only parse it once someone reads its values
+                        sectionType.setPendingSection(messageCount, i);
+                    }
+                }
+                if (sectionConsumer != null) {
+                    replacement.setLength(0);
+                    result = sectionConsumer.consumeSection(section, replacement);
+                }
+                if (generalConsumer != null) {
+                    replacement.setLength(0);
+                    result = generalConsumer.consumeSection(section, replacement);
                 }
+            } catch(RuntimeException ex) {
+                // Parsers report failures through their result, so this only guards against broken parsers and
+                // consumers from other mods
+                SBLLog.warning("Error while handling action bar section %s: %s", section, ex);
+                result = ActionBarSectionConsumer.Result.KEEP;
+            }
 
-                if (sectionReturn != null) {
-                    // can either return a string to keep displaying in the action bar
-                    // or null to not display them anymore
-                    unusedSections.add(sectionReturn);
+            if (!changed && result != ActionBarSectionConsumer.Result.KEEP) {
+                // First changed section, so start building the new action bar from the sections that were kept so far
+                changed = true;
+                output.setLength(0);
+                for (int j = 0; j < i; j++) {
+                    appendSection(actionBar, tokenizer.getSectionStart(j), tokenizer.getSectionEnd(j));
+                }
+            }
+            if (changed) {
+                // consumers can either keep the section, replace it with another text to keep displaying
+                // in the action bar or remove it to not display it anymore
+                if (result == ActionBarSectionConsumer.Result.KEEP) {
+                    appendSection(actionBar, tokenizer.getSectionStart(i), tokenizer.getSectionEnd(i));
+                } else if (result == ActionBarSectionConsumer.Result.REPLACE) {
+                    appendSection(replacement, 0, replacement.length());
                 }
-            } catch(Exception ex) {
-                unusedSections.add(section);
             }
         }
 
-        // Finally display all unused sections separated by 5 spaces again
-        return String.join("     ", unusedSections);
+        if (!healthSectionFound) {
+            // without a health section there is no wand healing either
+            skyblockPlayer.getAttributes().setWandHealing(0);
+        }
+        announceAbility();
+        postAttributeChanges();
+
+        // Finally display all unused sections separated by 5 spaces again, or the original action bar if nothing changed
+        lastActionBar = actionBar;
+        lastResult = changed ? output.toString() : actionBar;
+        return lastResult;
+    }
+
+    /**
+     * Get how many action bars were passed to {@link #parseActionBar(String)}, including repeats of the same text.
+     * Values read from the player after this count changed are the ones of a new action bar.
+     *
+     * @return Amount of received action bars
+     */
+    public int getActionBarCount() {
+        return actionBarCount;
+    }
+
+    /**
+     * Forgets the last parsed action bar, so the next one gets parsed and consumed again even if it is identical.
+     * This happens automatically whenever a consumer is replaced, but consumers that change their output on their own
+     * can call this to get their new output displayed right away.
+     */
+    public void invalidateCache() {
+        lastActionBar = null;
+        lastResult = null;
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Forgets the charges of the previously held item, so they don't get stale when the player holds an item without
+     * charges. The charges section of the last action bar isn't parsed anymore, and the next action bar gets parsed
+     * even if it is identical, in case the new item shows the same charges.
+     */
+    public void onHeldItemChanged() {
+        chargesSection.takePendingSection(messageCount);
+        skyblockPlayer.setCurrentItemCharges(null);
+        invalidateCache();
+    }
+
+    /**
+     * Appends a section to the output, separated by 5 spaces from the previous one.
+     *
+     * @param text Text containing the section
+     * @param start Start of the section in the text
+     * @param end End of the section in the text
+     */
+    private void appendSection(CharSequence text, int start, int end) {
+        if (output.length() > 0) {
+            output.append(SECTION_SEPARATOR);
+        }
+        output.append(text, start, end);
     }
 
     /**
-     * Parses a single section of the action bar.
+     * Parses a single section of the action bar with the parser of its type.
+     * The result is counted on the section type and sections that couldn't be parsed get remembered.
      *
+     * @param sectionType Type of the section
      * @param section Section to parse
-     * @return Text to keep displaying or null
+     * @return The consumer for the type of the section if it was parsed, otherwise null
+     */
+    private ActionBarSectionConsumer parseSection(ActionBarSectionType sectionType, ActionBarSection section) {
+        ActionBarSectionParser.Result result;
+        parsing = true;
+        try {
+            result = sectionType.getParser().parseSection(section);
+        } finally {
+            parsing = false;
+        }
+        sectionType.count(result);
+        if (result == ActionBarSectionParser.Result.PARSED) {
+            return sectionType.getConsumer();
+        }
+        addUnparsedSection(sectionType, section);
+        return null;
+    }
+
+    /**
+     * Parses the section of a type from the last action bar, if it was skipped because nothing needed it at the time.
+     * Accessors like {@link SkyblockPlayer#getHealth()} call this before reading their value, so sections only get
+     * parsed when someone is actually interested in them. Calling this while a section is being parsed does nothing.
+     *
+     * @param trigger Trigger glyph of the section type, like {@link #HEALTH_TRIGGER}
+     */
+    public void parsePendingSection(char trigger) {
+        ActionBarSectionType sectionType = dispatchTable.get(trigger);
+        if (sectionType == null || parsing) {
+            return;
+        }
+        int pendingSection = sectionType.takePendingSection(messageCount);
+        if (pendingSection >= 0) {
+            pendingSectionView.setIndex(pendingSection);
+            try {
+                parseSection(sectionType, pendingSectionView);
+            } catch(RuntimeException ex) {
+                SBLLog.warning("Error while parsing action bar section %s: %s", pendingSectionView, ex);
+            }
+            announceAbility();
+            postAttributeChanges();
+        }
+    }
+
+    /**
+     * Adds the attributes to the history and posts an {@link AttributesUpdateEvent} if any of them changed since the
+     * last one.
+     */
+    private void postAttributeChanges() {
+        AttributesUpdateEvent updateEvent = skyblockPlayer.getAttributes().takeChanges();
+        if (updateEvent != null) {
+            skyblockPlayer.getAttributeHistory().add(messageTime, updateEvent);
+            eventBus.post(updateEvent);
+        }
+    }
+
+    /**
+     * Subscribes to a section type, so its sections get parsed as soon as an action bar arrives instead of the
+     * first time their values are read. Use this when reacting to every update, for example to fire events.
+     * Sections with a consumer are always parsed right away.
+     * <p>
+     * Every call should be matched by a call to {@link #unsubscribe(ActionBarSectionType)} once the updates
+     * aren't needed anymore.
+     *
+     * @param sectionType Section type to subscribe to, see {@link #getSectionType(char)}
+     */
+    public void subscribe(ActionBarSectionType sectionType) {
+        Preconditions.checkArgument(sectionType != null);
+        sectionType.addSubscriber();
+    }
+
+    /**
+     * Removes a subscription added with {@link #subscribe(ActionBarSectionType)}.
+     *
+     * @param sectionType Section type to unsubscribe from
+     */
+    public void unsubscribe(ActionBarSectionType sectionType) {
+        Preconditions.checkArgument(sectionType != null);
+        sectionType.removeSubscriber();
+    }
+
+    /**
+     * Subscribes to the health, mana and defense sections, which all attribute values come from. Use this when
+     * listening to {@link AttributesUpdateEvent}s, so they are fired for every action bar instead of only once the
+     * attributes are read.
+     * Every call should be matched by a call to {@link #unsubscribeAttributes()}.
+     */
+    public void subscribeAttributes() {
+        subscribe(healthSection);
+        subscribe(manaSection);
+        subscribe(defenseSection);
+    }
+
+    /**
+     * Removes a subscription added with {@link #subscribeAttributes()}.
      */
-    private String parseSection(String section) {
-        String numbersOnly = TextUtils.keepLettersAndNumbersOnly(section).trim();
-        String[] splitStats = numbersOnly.split("/");
+    public void unsubscribeAttributes() {
+        unsubscribe(healthSection);
+        unsubscribe(manaSection);
+        unsubscribe(defenseSection);
+    }
 
-        if (section.contains("❤")) {
-            // ❤ indicates a health section
-            return parseHealth(section, splitStats);
-        } else if (section.contains("❈")) {
-            // ❈ indicates a defense section
-            return parseDefense(section, numbersOnly);
-        } else if (section.contains("✎")) {
-            return parseMana(section, splitStats);
-        } else if (section.contains("(")) {
-            return parseSkill(section);
-        } else if (section.contains("Ⓞ") || section.contains("ⓩ")) {
-            return parseCharges(section);
+    /**
+     * Remembers a section that couldn't be parsed, unless it's the same as the last one.
+     *
+     * @param sectionType Type of the section
+     * @param section The section
+     */
+    private void addUnparsedSection(ActionBarSectionType sectionType, ActionBarSection section) {
+        int last = (unparsedSectionCount - 1) % UNPARSED_SECTION_SAMPLES;
+        if (unparsedSectionCount > 0
+                && unparsedSectionTypes[last] == sectionType
+                && unparsedSectionTexts[last].contentEquals(section)) {
+            return;
         }
+        int next = unparsedSectionCount % UNPARSED_SECTION_SAMPLES;
+        unparsedSectionTypes[next] = sectionType;
+        unparsedSectionTexts[next] = section.toString();
+        unparsedSectionCount++;
+    }
 
-        return section;
+    /**
+     * Get the most recent action bar sections that couldn't be parsed, newest first, like
+     * {@code [Health] §c1390/❤}. Repeats of the same section are only listed once.
+     * Together with the counts on each {@link #getSectionTypes() section type}, this helps to notice when Hypixel
+     * changes the format of a section.
+     *
+     * @return Up to 16 recent unparsed sections
+     */
+    public List<String> getUnparsedSections() {
+        int size = Math.min(unparsedSectionCount, UNPARSED_SECTION_SAMPLES);
+        List<String> unparsedSections = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            int index = (unparsedSectionCount - i) % UNPARSED_SECTION_SAMPLES;
+            unparsedSections.add("[" + unparsedSectionTypes[index].getName() + "] " + unparsedSectionTexts[index]);
+        }
+        return unparsedSections;
+    }
+
+    /**
+     * Get all section types that are currently registered, with their parsed, failed and unrecognized counts.
+     *
+     * @return The registered section types
+     */
+    public List<ActionBarSectionType> getSectionTypes() {
+        List<ActionBarSectionType> registeredTypes = new ArrayList<>();
+        for (ActionBarSectionType sectionType : sectionTypes) {
+            for (char trigger : sectionType.getTriggers()) {
+                if (dispatchTable.get(trigger) == sectionType) {
+                    registeredTypes.add(sectionType);
+                    break;
+                }
+            }
+        }
+        return registeredTypes;
     }
 
-    private String parseHealth(String healthSection, String[] splitStats) {
+    private ActionBarSectionParser.Result parseHealth(ActionBarSection healthSection) {
         // Normal:      §c1390/1390❤
         // With Wand:   §c1390/1390❤+§c30▅
-        int newHealth;
-        int maxHealth;
-        if (healthSection.startsWith("§6")) { // Absorption chances §c to §6. Remove §6 to make sure it isn't detected as a number of health.
-            healthSection = healthSection.substring(2);
-            splitStats[0] = splitStats[0].substring(1); // One less because the '§' was already removed.
-        }
-        if (healthSection.contains("+")) {
-            // Contains the Wand indicator so it has to be split differently
-            String[] splitHealthAndWand = healthSection.split("\\+");
-            String[] healthSplit = TextUtils.getNumbersOnly(splitHealthAndWand[0]).split("/");
-            newHealth = Integer.parseInt(healthSplit[0]);
-            maxHealth = Integer.parseInt(healthSplit[1]);
-            int wandHealing = Integer.parseInt(splitHealthAndWand[1]);
-            SkyblockLib.getSkyblockPlayer().getAttributes().setWandHealing(wandHealing);
-        } else {
-            newHealth = Integer.parseInt(splitStats[0]);
-            maxHealth = Integer.parseInt(splitStats[1]);
+        // Absorption changes §c to §6, but color codes are never read as numbers.
+        // set wand healing to 0 so it doesn't get stale
+        skyblockPlayer.getAttributes().setWandHealing(0);
+        if (!numberScanner.scan(healthSection, 0)) {
+            return ActionBarSectionParser.Result.FAILED;
         }
-
-        SkyblockLib.getSkyblockPlayer().getAttributes().setHealth(newHealth);
-        SkyblockLib.getSkyblockPlayer().getAttributes().setMaxHealth(maxHealth);
-        if(healthConsumer != null) {
-            return healthConsumer.consumeSection(healthSection);
-        } else {
-            return healthSection;
+        int newHealth = numberScanner.getInt();
+        if (!numberScanner.scan(healthSection, 1)) {
+            return ActionBarSectionParser.Result.FAILED;
+        }
+        int maxHealth = numberScanner.getInt();
+        if (healthSection.getNumberCount() > 2) {
+            // Contains the Wand indicator after the health
+            if (!numberScanner.scan(healthSection, 2)) {
+                return ActionBarSectionParser.Result.FAILED;
+            }
+            skyblockPlayer.getAttributes().setWandHealing(numberScanner.getInt());
         }
+
+        skyblockPlayer.getAttributes().setHealth(newHealth);
+        skyblockPlayer.getAttributes().setMaxHealth(maxHealth);
+        return ActionBarSectionParser.Result.PARSED;
     }
 
-    private String parseMana(String manaSection, String[] splitStats) {
+    private ActionBarSectionParser.Result parseMana(ActionBarSection manaSection) {
         // §b183/171✎ Mana§r
-        int mana = Integer.parseInt(splitStats[0]);
-        int maxMana = Integer.parseInt(splitStats[1]);
-        SkyblockLib.getSkyblockPlayer().getAttributes().setMana(mana);
-        SkyblockLib.getSkyblockPlayer().getAttributes().setMaxMana(maxMana);
-        if(manaConsumer != null) {
-            return manaConsumer.consumeSection(manaSection);
-        } else {
-            return manaSection;
+        if (!numberScanner.scan(manaSection, 0)) {
+            return ActionBarSectionParser.Result.FAILED;
+        }
+        int mana = numberScanner.getInt();
+        if (!numberScanner.scan(manaSection, 1)) {
+            return ActionBarSectionParser.Result.FAILED;
         }
+        int maxMana = numberScanner.getInt();
+        skyblockPlayer.getAttributes().setMana(mana);
+        skyblockPlayer.getAttributes().setMaxMana(maxMana);
+        return ActionBarSectionParser.Result.PARSED;
     }
 
-    private String parseDefense(String defenseSection, String numbersOnly) {
+    private ActionBarSectionParser.Result parseDefense(ActionBarSection defenseSection) {
         // §a720§a❈ Defense
-        int defense = Integer.parseInt(numbersOnly);
-        SkyblockLib.getSkyblockPlayer().getAttributes().setDefence(defense);
-
-        if(defenseConsumer != null) {
-            return defenseConsumer.consumeSection(defenseSection);
-        } else {
-            return defenseSection;
+        if (!numberScanner.scan(defenseSection, 0)) {
+            return ActionBarSectionParser.Result.FAILED;
         }
+        skyblockPlayer.getAttributes().setDefence(numberScanner.getInt());
+        return ActionBarSectionParser.Result.PARSED;
     }
 
-    private String parseSkill(String skillSection) {
+    private ActionBarSectionParser.Result parseSkill(ActionBarSection skillSection) {
         // §3+10.9 Combat (313,937.1/600,000)
         // Another Example: §5+§d30 §5Runecrafting (969/1000)
-        Matcher matcher = COLLECTIONS_CHAT_PATTERN.matcher(skillSection);
-        if (matcher.matches()) {
-            double increase = Double.parseDouble(matcher.group(1));
-            String skillName = matcher.group(2);
-            double currentProgress = Double.parseDouble(matcher.group(3));
-            double maxProgress = Double.parseDouble(matcher.group(4));
-            SkillUpdate skillUpdate = new SkillUpdate(skillName, currentProgress, maxProgress, increase);
-
-            SkyblockLib.getSkyblockPlayer().setLastSkillUpdate(skillUpdate);
+        if (skillSection.getNumberCount() != 3) {
+            // Some other section with a bracket in it
+            return ActionBarSectionParser.Result.UNRECOGNIZED;
+        }
+        if (!numberScanner.scan(skillSection, 0)) {
+            return ActionBarSectionParser.Result.FAILED;
         }
+        double increase = numberScanner.getDouble();
+        if (!numberScanner.scan(skillSection, 1)) {
+            return ActionBarSectionParser.Result.FAILED;
+        }
+        double currentProgress = numberScanner.getDouble();
+        if (!numberScanner.scan(skillSection, 2)) {
+            return ActionBarSectionParser.Result.FAILED;
+        }
+        double maxProgress = numberScanner.getDouble();
 
-        if(skillConsumer != null) {
-            return skillConsumer.consumeSection(skillSection);
+        // The skill name is the word between the increase and the opening bracket, skipping color codes
+        int nameStart = skillSection.getNumberEnd(0);
+        while (nameStart < skillSection.length() && !Character.isLetter(skillSection.charAt(nameStart))) {
+            nameStart += skillSection.charAt(nameStart) == '§' ? 2 : 1;
+        }
+        int nameEnd = nameStart;
+        while (nameEnd < skillSection.length() && Character.isLetter(skillSection.charAt(nameEnd))) {
+            nameEnd++;
+        }
+        if (nameStart >= nameEnd || nameEnd > skillSection.getNumberStart(1)) {
+            return ActionBarSectionParser.Result.UNRECOGNIZED;
+        }
+        Skill skill = Skill.fromName(skillSection, nameStart, nameEnd);
+        if (skill != null) {
+            if (skyblockPlayer.getSkillTracker().update(skill, increase, currentProgress, maxProgress, messageTime)) {
+                skyblockLib.getSessionStatistics().onSkillXp(skill, increase);
+            }
         } else {
-            return skillSection;
+            // A skill that isn't known yet, so it can only be kept as the last update
+            String skillName = skillSection.subSequence(nameStart, nameEnd).toString();
+            skyblockPlayer.setLastSkillUpdate(new SkillUpdate(skillName, currentProgress, maxProgress, increase,
+                    messageTime));
         }
+        return ActionBarSectionParser.Result.PARSED;
     }
 
-    private String parseCharges(String tickerSection) {
+    private ActionBarSectionParser.Result parseCharges(ActionBarSection tickerSection) {
         // Zombie with full charges: §a§lⓩⓩⓩⓩ§2§l§r
         // Zombie with one used charges: §a§lⓩⓩⓩ§2§lⓄ§r
         // Scorpion tickers: §e§lⓄⓄⓄⓄ§7§l§r
@@ -236,7 +614,8 @@ public class ActionBarParser {
         int charges = 0;
         int maxCharges = 0;
         boolean hitUnusables = false;
-        for (char character : tickerSection.toCharArray()) {
+        for (int i = 0; i < tickerSection.length(); i++) {
+            char character = tickerSection.charAt(i);
             if (!hitUnusables && (character == '7' || character == '2' || character == '6')) {
                 // While the unusable tickers weren't hit before and if it reaches a grey(scorpion) or dark green(zombie)
                 // or gold (ornate) color code, it means those tickers are used, so stop counting them.
@@ -248,13 +627,172 @@ public class ActionBarParser {
                 maxCharges++;
             }
         }
-        ItemCharges itemCharges = new ItemCharges(charges, maxCharges);
-        SkyblockLib.getSkyblockPlayer().setCurrentItemCharges(itemCharges);
-        if(chargesConsumer != null) {
-            return chargesConsumer.consumeSection(tickerSection);
-        } else {
-            return tickerSection;
+        ItemCharges itemCharges = skyblockPlayer.getCurrentItemCharges();
+        if (itemCharges == null || itemCharges.getAvailable() != charges || itemCharges.getTotal() != maxCharges) {
+            skyblockPlayer.setCurrentItemCharges(new ItemCharges(charges, maxCharges));
+        }
+        skyblockPlayer.getChargeTracker().update(skyblockLib.getHeldItemResolver().getItemId(), charges, maxCharges,
+                messageTime);
+        return ActionBarSectionParser.Result.PARSED;
+    }
+
+    private ActionBarSectionParser.Result parseAbility(ActionBarSection abilitySection) {
+        // §b-50 Mana (§6Instant Transmission§b)
+        if (abilitySection.getNumberCount() == 0
+                || abilitySection.getTriggerIndex() + 1 != abilitySection.getNumberStart(0)) {
+            return ActionBarSectionParser.Result.UNRECOGNIZED;
+        }
+        int manaIndex = abilitySection.getNumberEnd(0) + 1;
+        int openingBracket = indexOf(abilitySection, '(', manaIndex);
+        int closingBracket = indexOf(abilitySection, ')', openingBracket + 1);
+        if (!regionMatches(abilitySection, manaIndex, "Mana") || openingBracket < 0 || closingBracket < 0) {
+            return ActionBarSectionParser.Result.UNRECOGNIZED;
+        }
+
+        abilityName.setLength(0);
+        for (int i = openingBracket + 1; i < closingBracket; i++) {
+            char character = abilitySection.charAt(i);
+            if (character == '§') {
+                i++;
+            } else {
+                abilityName.append(character);
+            }
+        }
+        if (abilityName.length() == 0) {
+            return ActionBarSectionParser.Result.FAILED;
+        }
+
+        // The section stays the same in every action bar while it's displayed, whether the ability was used again
+        // is decided once the mana of this action bar is known
+        abilityDisplayedBefore = messageCount == lastAbilityMessage + 1
+                && lastAbilitySection != null
+                && lastAbilitySection.contentEquals(abilitySection);
+        if (!abilityDisplayedBefore) {
+            lastAbilitySection = abilitySection.toString();
+        }
+        lastAbilityMessage = messageCount;
+        abilityParsed = true;
+        return ActionBarSectionParser.Result.PARSED;
+    }
+
+    /**
+     * Fires a {@link SkyblockAbilityEvent} for the ability section that was just parsed, if it shows a new use.
+     * That's the case if the section wasn't in the previous action bar, if the mana dropped again since then or if the
+     * section is displayed longer than a single use would keep it.
+     */
+    private void announceAbility() {
+        if (!abilityParsed) {
+            return;
         }
+        abilityParsed = false;
+        long now = messageTime;
+        int mana = skyblockPlayer.getMana();
+        boolean newUse = !abilityDisplayedBefore || mana < lastAbilityMana
+                || now - lastAbilityTime >= ABILITY_DISPLAY_MILLIS;
+        lastAbilityMana = mana;
+        if (!newUse) {
+            return;
+        }
+        lastAbilityTime = now;
+
+        // Fire a SkyblockAbilityEvent if an ability matching that name was found, unless chat already announced this use
+        skyblockLib.getItemAbilityFile().findAbilityByName(abilityName.toString())
+                .filter(skyblockItemAbility -> skyblockLib.getAbilityAnnouncements().announce(skyblockItemAbility,
+                        AbilityAnnouncements.Source.ACTION_BAR, now))
+                .ifPresent(skyblockItemAbility -> eventBus.post(new SkyblockAbilityEvent(skyblockItemAbility)));
+    }
+
+    /**
+     * Finds a character in a section.
+     *
+     * @param section Section to search
+     * @param character Character to find
+     * @param from Index to start searching at, may be negative
+     * @return Index of the character or {@code -1} if it wasn't found
+     */
+    private static int indexOf(ActionBarSection section, char character, int from) {
+        if (from < 0) {
+            return -1;
+        }
+        for (int i = from; i < section.length(); i++) {
+            if (section.charAt(i) == character) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if a section contains a text at an index.
+     *
+     * @param section Section to check
+     * @param index Index in the section
+     * @param text Text to look for
+     * @return Whether the text is found at that index
+     */
+    private static boolean regionMatches(ActionBarSection section, int index, String text) {
+        if (index < 0 || index + text.length() > section.length()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (section.charAt(index + i) != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Registers a parser for a new type of action bar section, for example when Hypixel adds a new stat with its own
+     * glyph. Sections are handed to the parser whose trigger glyph appears first in them.
+     * If a trigger glyph was already registered, the new parser replaces the old one for that glyph, which also allows
+     * replacing the parsers built into SkyblockLib.
+     * <p>
+     * Dispatching a section to its parser is a direct lookup by the trigger glyph, so registering more parsers does
+     * not make parsing any slower.
+     *
+     * @param name Name of the section type, like "Health"
+     * @param parser Parser for the section type
+     * @param triggers Glyphs that identify the section type, like {@code ❤} for health
+     * @return The registered section type, to set a consumer on with {@link #setSectionConsumer(ActionBarSectionType, ActionBarSectionConsumer)}
+     */
+    public ActionBarSectionType registerSectionParser(String name, ActionBarSectionParser parser, char... triggers) {
+        Preconditions.checkArgument(name != null);
+        Preconditions.checkArgument(parser != null);
+        Preconditions.checkArgument(triggers != null && triggers.length > 0);
+
+        ActionBarSectionType sectionType = new ActionBarSectionType(name, parser, triggers.clone());
+        sectionTypes.add(sectionType);
+        for (char trigger : triggers) {
+            dispatchTable.put(trigger, sectionType);
+        }
+        invalidateCache();
+        return sectionType;
+    }
+
+    /**
+     * Get the section type that is currently registered for a trigger glyph.
+     *
+     * @param trigger Trigger glyph like {@code ❤}
+     * @return The registered section type or {@code null} if there is none
+     */
+    public ActionBarSectionType getSectionType(char trigger) {
+        return dispatchTable.get(trigger);
+    }
+
+    /**
+     * Sets the consumer on all sections of a type.
+     * The section types built into SkyblockLib can be looked up by their trigger glyph with {@link #getSectionType(char)}.
+     *
+     * <p>Set to {@code null} to remove</p>
+     *
+     * @param sectionType The section type, as returned by {@link #registerSectionParser(String, ActionBarSectionParser, char...)}
+     * @param consumer The consumer
+     */
+    public void setSectionConsumer(ActionBarSectionType sectionType, ActionBarSectionConsumer consumer) {
+        Preconditions.checkArgument(sectionType != null);
+        sectionType.setConsumer(consumer);
+        invalidateCache();
     }
 
     /**
@@ -271,7 +809,7 @@ public class ActionBarParser {
      * @param healthConsumer The consumer
      */
     public void setHealthConsumer(ActionBarConsumer healthConsumer) {
-        this.healthConsumer = healthConsumer;
+        setSectionConsumer(healthSection, ActionBarSectionConsumer.fromConsumer(healthConsumer));
     }
 
     /**
@@ -286,7 +824,7 @@ public class ActionBarParser {
      * @param manaConsumer The consumer
      */
     public void setManaConsumer(ActionBarConsumer manaConsumer) {
-        this.manaConsumer = manaConsumer;
+        setSectionConsumer(manaSection, ActionBarSectionConsumer.fromConsumer(manaConsumer));
     }
 
     /**
@@ -300,7 +838,7 @@ public class ActionBarParser {
      * @param defenseConsumer The consumer
      */
     public void setDefenseConsumer(ActionBarConsumer defenseConsumer) {
-        this.defenseConsumer = defenseConsumer;
+        setSectionConsumer(defenseSection, ActionBarSectionConsumer.fromConsumer(defenseConsumer));
     }
 
     /**
@@ -308,14 +846,15 @@ public class ActionBarParser {
      * This section looks like this:
      * <p>{@code §3+10.9 Combat (313,937.1/600,000)}</p> or like this:
      * <p>{@code §5+§d30 §5Runecrafting (969/1000)}</p>
-     * The parsed information is available as {@link SkyblockPlayer#getLastSkillUpdate()}.
+     * The parsed information is available as {@link SkyblockPlayer#getLastSkillUpdate()} and
+     * {@link SkyblockPlayer#getSkillTracker()}.
      *
      * <p>Set to {@code null} to remove</p>
      *
      * @param skillConsumer The consumer
      */
     public void setSkillConsumer(ActionBarConsumer skillConsumer) {
-        this.skillConsumer = skillConsumer;
+        setSectionConsumer(skillSection, ActionBarSectionConsumer.fromConsumer(skillConsumer));
     }
 
     /**
@@ -337,7 +876,21 @@ public class ActionBarParser {
      * @param chargesConsumer The consumer
      */
     public void setChargesConsumer(ActionBarConsumer chargesConsumer) {
-        this.chargesConsumer = chargesConsumer;
+        setSectionConsumer(chargesSection, ActionBarSectionConsumer.fromConsumer(chargesConsumer));
+    }
+
+    /**
+     * Sets the consumer on the ability section.
+     * This section shows up for a moment after the player used an ability and looks like this:
+     * <p>{@code §b-50 Mana (§6Instant Transmission§b)}</p>
+     * A {@link SkyblockAbilityEvent} is fired when it appears.
+     *
+     * <p>Set to {@code null} to remove</p>
+     *
+     * @param abilityConsumer The consumer
+     */
+    public void setAbilityConsumer(ActionBarConsumer abilityConsumer) {
+        setSectionConsumer(abilitySection, ActionBarSectionConsumer.fromConsumer(abilityConsumer));
     }
 
     /**
@@ -348,6 +901,18 @@ public class ActionBarParser {
      * @param generalConsumer The consumer
      */
     public void setGeneralConsumer(ActionBarConsumer generalConsumer) {
+        setGeneralSectionConsumer(ActionBarSectionConsumer.fromConsumer(generalConsumer));
+    }
+
+    /**
+     * Sets the general consumer that is run on every section of the action bar, without copying the sections.
+     *
+     * <p>Set to {@code null} to remove</p>
+     *
+     * @param generalConsumer The consumer
+     */
+    public void setGeneralSectionConsumer(ActionBarSectionConsumer generalConsumer) {
         this.generalConsumer = generalConsumer;
+        invalidateCache();
     }
 }
\ No newline at end of file
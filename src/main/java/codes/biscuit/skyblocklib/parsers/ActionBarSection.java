@@ -0,0 +1,100 @@
+package codes.biscuit.skyblocklib.parsers;
+
+/**
+ * A view on a single section of an action bar message, as passed to {@link ActionBarSectionParser parsers}.
+ * It reads straight from the original message instead of holding a copy of the section text, and already knows
+ * where the trigger glyph and the numbers in the section are.
+ * <p>
+ * Views are reused for every section, so they must not be kept around after a section was handled.
+ * Use {@link #toString()} to get a copy of the section text.
+ */
+public final class ActionBarSection implements CharSequence {
+
+    private final ActionBarTokenizer tokenizer;
+    private int index;
+
+    ActionBarSection(ActionBarTokenizer tokenizer) {
+        this.tokenizer = tokenizer;
+    }
+
+    void setIndex(int index) {
+        this.index = index;
+    }
+
+    /**
+     * @return Index of the first character of this section in the whole action bar message
+     */
+    int getStart() {
+        return tokenizer.getSectionStart(index);
+    }
+
+    /**
+     * @return Index after the last character of this section in the whole action bar message
+     */
+    int getEnd() {
+        return tokenizer.getSectionEnd(index);
+    }
+
+    /**
+     * @return The first trigger glyph in this section, or {@code 0} if there is none
+     */
+    public char getTrigger() {
+        int triggerIndex = tokenizer.getTriggerIndex(index);
+        return triggerIndex < 0 ? 0 : tokenizer.getText().charAt(triggerIndex);
+    }
+
+    /**
+     * @return Index of the first trigger glyph relative to the section start, or {@code -1} if there is none
+     */
+    public int getTriggerIndex() {
+        int triggerIndex = tokenizer.getTriggerIndex(index);
+        return triggerIndex < 0 ? -1 : triggerIndex - getStart();
+    }
+
+    /**
+     * @return The amount of numbers found in this section, ignoring color codes
+     */
+    public int getNumberCount() {
+        return tokenizer.getNumberCount(index);
+    }
+
+    /**
+     * Get where a number in this section starts. Use a {@link NumberScanner} to read its value.
+     *
+     * @param number Index of the number in this section
+     * @return Index of the number's first character relative to the section start
+     */
+    public int getNumberStart(int number) {
+        return tokenizer.getNumberStart(index, number) - getStart();
+    }
+
+    /**
+     * Get where a number in this section ends. Use a {@link NumberScanner} to read its value.
+     *
+     * @param number Index of the number in this section
+     * @return Index after the number's last character relative to the section start
+     */
+    public int getNumberEnd(int number) {
+        return tokenizer.getNumberEnd(index, number) - getStart();
+    }
+
+    @Override
+    public int length() {
+        return getEnd() - getStart();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return tokenizer.getText().charAt(getStart() + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return tokenizer.getText().subSequence(getStart() + start, getStart() + end);
+    }
+
+    @Override
+    public String toString() {
+        return tokenizer.getText().substring(getStart(), getEnd());
+    }
+}
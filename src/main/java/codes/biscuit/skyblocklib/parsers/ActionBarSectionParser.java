@@ -0,0 +1,44 @@
+package codes.biscuit.skyblocklib.parsers;
+
+/**
+ * Parses the information out of a single type of action bar section.
+ * Parsers get registered on the {@link ActionBarParser} with the trigger glyphs that identify their section, like
+ * {@code ❤} for the health section. See {@link ActionBarParser#registerSectionParser(String, ActionBarSectionParser, char...)}.
+ */
+@FunctionalInterface
+public interface ActionBarSectionParser {
+
+    /**
+     * Called for every action bar section whose first trigger glyph is one of the glyphs this parser was registered
+     * with. The parser is expected to store the parsed information wherever it's needed.
+     * <p>
+     * Failures are reported through the returned result instead of exceptions, as a section in an unknown format
+     * would otherwise throw on every single action bar. They are counted on the section type and the most recent
+     * failed sections are kept, see {@link ActionBarParser#getUnparsedSections()}.
+     * <p>
+     * The section is a view on the original action bar message that is reused for the next section, so it must not be
+     * kept after this method returns. Use {@link ActionBarSection#toString()} to get a copy.
+     *
+     * @param section The section to parse
+     * @return Whether the section could be parsed
+     */
+    Result parseSection(ActionBarSection section);
+
+    /**
+     * The outcomes of parsing a section.
+     */
+    enum Result {
+        /**
+         * The section was parsed successfully
+         */
+        PARSED,
+        /**
+         * The section is of this parser's type, but its contents couldn't be read, for example a missing number
+         */
+        FAILED,
+        /**
+         * The section contains the trigger glyph, but doesn't have a format this parser knows
+         */
+        UNRECOGNIZED
+    }
+}
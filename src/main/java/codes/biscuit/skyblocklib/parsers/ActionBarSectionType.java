@@ -0,0 +1,163 @@
+package codes.biscuit.skyblocklib.parsers;
+
+import codes.biscuit.skyblocklib.utils.ActionBarSectionConsumer;
+
+/**
+ * A type of action bar section like the health or mana section.
+ * Each type is registered on the {@link ActionBarParser} with its parser and the trigger glyphs that identify it, and
+ * can hold a {@link ActionBarSectionConsumer consumer} that determines how sections of this type keep being displayed.
+ */
+public final class ActionBarSectionType {
+
+    private final String name;
+    private final ActionBarSectionParser parser;
+    private final char[] triggers;
+    private ActionBarSectionConsumer consumer;
+
+    private int subscribers;
+    private int pendingSection = -1;
+    private int pendingMessage;
+
+    private long parsedCount;
+    private long failedCount;
+    private long unrecognizedCount;
+
+    ActionBarSectionType(String name, ActionBarSectionParser parser, char[] triggers) {
+        this.name = name;
+        this.parser = parser;
+        this.triggers = triggers;
+    }
+
+    /**
+     * @return The name of this section type, like "Health"
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The parser for sections of this type
+     */
+    public ActionBarSectionParser getParser() {
+        return parser;
+    }
+
+    /**
+     * @return The trigger glyphs that identify sections of this type
+     */
+    public char[] getTriggers() {
+        return triggers.clone();
+    }
+
+    /**
+     * @return The consumer on sections of this type or {@code null} if there is none
+     */
+    public ActionBarSectionConsumer getConsumer() {
+        return consumer;
+    }
+
+    void setConsumer(ActionBarSectionConsumer consumer) {
+        this.consumer = consumer;
+    }
+
+    /**
+     * @return Whether anything subscribed to sections of this type being parsed as soon as they arrive
+     */
+    public boolean hasSubscribers() {
+        return subscribers > 0;
+    }
+
+    void addSubscriber() {
+        subscribers++;
+    }
+
+    void removeSubscriber() {
+        if (subscribers > 0) {
+            subscribers--;
+        }
+    }
+
+    /**
+     * Remembers a section of this type that wasn't parsed yet.
+     *
+     * @param message Number of the action bar message containing the section
+     * @param section Index of the section in that message
+     */
+    void setPendingSection(int message, int section) {
+        pendingMessage = message;
+        pendingSection = section;
+    }
+
+    /**
+     * Get the section of this type that wasn't parsed yet and forget it, so it only gets parsed once.
+     *
+     * @param message Number of the current action bar message
+     * @return Index of the section in the current message or {@code -1} if there is none
+     */
+    int takePendingSection(int message) {
+        int section = pendingMessage == message ? pendingSection : -1;
+        pendingSection = -1;
+        return section;
+    }
+
+    /**
+     * @return How many sections of this type were parsed successfully
+     */
+    public long getParsedCount() {
+        return parsedCount;
+    }
+
+    /**
+     * @return How many sections of this type couldn't be parsed, see {@link ActionBarSectionParser.Result#FAILED}
+     */
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * @return How many sections with a trigger glyph of this type had an unknown format,
+     * see {@link ActionBarSectionParser.Result#UNRECOGNIZED}
+     */
+    public long getUnrecognizedCount() {
+        return unrecognizedCount;
+    }
+
+    /**
+     * Resets the parsed, failed and unrecognized counts to 0.
+     */
+    public void resetCounts() {
+        parsedCount = 0;
+        failedCount = 0;
+        unrecognizedCount = 0;
+    }
+
+    /**
+     * Counts the result of parsing a section of this type.
+     *
+     * @param result The parser's result
+     */
+    void count(ActionBarSectionParser.Result result) {
+        switch (result) {
+            case PARSED:
+                parsedCount++;
+                break;
+            case FAILED:
+                failedCount++;
+                break;
+            case UNRECOGNIZED:
+                unrecognizedCount++;
+                break;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ActionBarSectionType{" +
+                "name='" + name + '\'' +
+                ", triggers='" + new String(triggers) + '\'' +
+                ", parsed=" + parsedCount +
+                ", failed=" + failedCount +
+                ", unrecognized=" + unrecognizedCount +
+                '}';
+    }
+}
@@ -0,0 +1,200 @@
+package codes.biscuit.skyblocklib.parsers;
+
+import java.util.Arrays;
+
+/**
+ * Splits an action bar message into its sections in a single pass over the raw text.
+ * <p>
+ * Sections are separated by 3 or more spaces. While looking for those separators, the tokenizer also remembers the
+ * first trigger glyph of every section (like {@code ❤} or {@code ✎}, as registered in the {@link SectionDispatchTable})
+ * and the spans of all numbers in it, skipping over color codes. Nothing is copied out of the text: sections and
+ * numbers are only stored as index ranges, and all buffers are reused from one message to the next, so tokenizing
+ * does not allocate once the buffers are big enough.
+ */
+final class ActionBarTokenizer {
+
+    private static final int MIN_SEPARATOR_LENGTH = 3;
+
+    private final SectionDispatchTable dispatchTable;
+    private final ActionBarSection section = new ActionBarSection(this);
+
+    private String text = "";
+
+    private int sectionCount;
+    private int[] sectionStarts = new int[8];
+    private int[] sectionEnds = new int[8];
+    private int[] triggerIndices = new int[8];
+    private int[] firstNumbers = new int[8];
+    private int[] numberCounts = new int[8];
+
+    private int numberCount;
+    private int[] numberStarts = new int[16];
+    private int[] numberEnds = new int[16];
+
+    /**
+     * @param dispatchTable Table of the trigger glyphs to look for
+     */
+    ActionBarTokenizer(SectionDispatchTable dispatchTable) {
+        this.dispatchTable = dispatchTable;
+    }
+
+    /**
+     * Tokenizes the given action bar message, replacing the result of the previous call.
+     *
+     * @param text Formatted action bar message
+     */
+    void tokenize(String text) {
+        this.text = text;
+        sectionCount = 0;
+        numberCount = 0;
+
+        int length = text.length();
+        int sectionStart = 0;
+        int sectionNumbers = 0;
+        int triggerIndex = -1;
+        int numberStart = -1;
+        int lastDigit = -1;
+        int spaces = 0;
+
+        for (int i = 0; i < length; i++) {
+            char character = text.charAt(i);
+            if (character == ' ') {
+                spaces++;
+                if (numberStart >= 0) {
+                    addNumber(numberStart, lastDigit + 1);
+                    numberStart = -1;
+                }
+                continue;
+            }
+
+            if (spaces >= MIN_SEPARATOR_LENGTH) {
+                addSection(sectionStart, i - spaces, triggerIndex, sectionNumbers);
+                sectionStart = i;
+                sectionNumbers = numberCount;
+                triggerIndex = -1;
+            }
+            spaces = 0;
+
+            if (character >= '0' && character <= '9') {
+                if (numberStart < 0) {
+                    numberStart = i;
+                }
+                lastDigit = i;
+            } else if (numberStart >= 0 && (character == ',' || character == '.')) {
+                // Grouping and decimal separators stay part of the number, trailing ones get cut off when it's closed
+                continue;
+            } else {
+                if (numberStart >= 0) {
+                    addNumber(numberStart, lastDigit + 1);
+                    numberStart = -1;
+                }
+                if (character == '§') {
+                    // Skip the color code so it isn't mistaken for a number
+                    i++;
+                } else if (triggerIndex < 0 && dispatchTable.get(character) != null && isTrigger(text, i)) {
+                    triggerIndex = i;
+                }
+            }
+        }
+
+        if (numberStart >= 0) {
+            addNumber(numberStart, lastDigit + 1);
+        }
+        addSection(sectionStart, spaces >= MIN_SEPARATOR_LENGTH ? length - spaces : length, triggerIndex, sectionNumbers);
+    }
+
+    /**
+     * Checks the context of a registered trigger glyph. The {@link ActionBarParser#ABILITY_TRIGGER} is a minus sign, so
+     * it only triggers a section when it's followed by a digit, like in {@code -50 Mana}, and not in hyphenated words.
+     *
+     * @param text The message
+     * @param index Index of the trigger glyph
+     * @return Whether the glyph triggers a section at that index
+     */
+    private static boolean isTrigger(String text, int index) {
+        if (text.charAt(index) != ActionBarParser.ABILITY_TRIGGER) {
+            return true;
+        }
+        char next = index + 1 < text.length() ? text.charAt(index + 1) : ' ';
+        return next >= '0' && next <= '9';
+    }
+
+    /**
+     * @return The amount of sections found in the last tokenized message
+     */
+    int getSectionCount() {
+        return sectionCount;
+    }
+
+    /**
+     * Get a view on a section of the last tokenized message.
+     * The returned object is reused for every section, so it is only valid until this is called again.
+     *
+     * @param index Index of the section
+     * @return View on that section
+     */
+    ActionBarSection getSection(int index) {
+        section.setIndex(index);
+        return section;
+    }
+
+    String getText() {
+        return text;
+    }
+
+    int getSectionStart(int index) {
+        return sectionStarts[index];
+    }
+
+    int getSectionEnd(int index) {
+        return sectionEnds[index];
+    }
+
+    int getTriggerIndex(int index) {
+        return triggerIndices[index];
+    }
+
+    int getNumberCount(int index) {
+        return numberCounts[index];
+    }
+
+    int getNumberStart(int index, int number) {
+        return numberStarts[firstNumbers[index] + number];
+    }
+
+    int getNumberEnd(int index, int number) {
+        return numberEnds[firstNumbers[index] + number];
+    }
+
+    private void addSection(int start, int end, int triggerIndex, int firstNumber) {
+        if (start >= end) {
+            // Separator at the very start of the message
+            return;
+        }
+        if (sectionCount == sectionStarts.length) {
+            int newLength = sectionCount * 2;
+            sectionStarts = Arrays.copyOf(sectionStarts, newLength);
+            sectionEnds = Arrays.copyOf(sectionEnds, newLength);
+            triggerIndices = Arrays.copyOf(triggerIndices, newLength);
+            firstNumbers = Arrays.copyOf(firstNumbers, newLength);
+            numberCounts = Arrays.copyOf(numberCounts, newLength);
+        }
+        sectionStarts[sectionCount] = start;
+        sectionEnds[sectionCount] = end;
+        triggerIndices[sectionCount] = triggerIndex;
+        firstNumbers[sectionCount] = firstNumber;
+        numberCounts[sectionCount] = numberCount - firstNumber;
+        sectionCount++;
+    }
+
+    private void addNumber(int start, int end) {
+        if (numberCount == numberStarts.length) {
+            int newLength = numberCount * 2;
+            numberStarts = Arrays.copyOf(numberStarts, newLength);
+            numberEnds = Arrays.copyOf(numberEnds, newLength);
+        }
+        numberStarts[numberCount] = start;
+        numberEnds[numberCount] = end;
+        numberCount++;
+    }
+}
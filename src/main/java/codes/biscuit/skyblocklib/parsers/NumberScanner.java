@@ -0,0 +1,132 @@
+package codes.biscuit.skyblocklib.parsers;
+
+/**
+ * Reads numbers the way Hypixel displays them, like {@code 1390}, {@code 600,000} or {@code 313,937.1}, straight
+ * from the characters of a text. Commas have to separate groups of three digits and there may be one decimal point.
+ * <p>
+ * The scanned value is kept in primitive fields of the scanner instead of being returned, so a single scanner can be
+ * reused for any amount of numbers without allocating anything.
+ */
+public final class NumberScanner {
+
+    /**
+     * More digits than this can't be held exactly by a long.
+     */
+    private static final int MAX_DIGITS = 18;
+
+    private long integerPart;
+    private long fraction;
+    private long fractionScale = 1;
+
+    /**
+     * Scans a number of an action bar section, as found by the tokenizer.
+     *
+     * @param section Section containing the number
+     * @param number Index of the number in the section
+     * @return Whether the number is valid. If not, the previously scanned value is gone.
+     */
+    public boolean scan(ActionBarSection section, int number) {
+        if (number >= section.getNumberCount()) {
+            return fail();
+        }
+        return scan(section, section.getNumberStart(number), section.getNumberEnd(number));
+    }
+
+    /**
+     * Scans the number that fills a range of a text.
+     *
+     * @param text Text containing the number
+     * @param start Index of the first character of the number
+     * @param end Index after the last character of the number
+     * @return Whether the range holds a valid number. If not, the previously scanned value is gone.
+     */
+    public boolean scan(CharSequence text, int start, int end) {
+        reset();
+        if (start >= end) {
+            return fail();
+        }
+
+        int digits = 0;
+        int groupDigits = 0;
+        boolean grouped = false;
+        boolean inFraction = false;
+        for (int i = start; i < end; i++) {
+            char character = text.charAt(i);
+            if (character >= '0' && character <= '9') {
+                if (++digits > MAX_DIGITS) {
+                    return fail();
+                }
+                if (inFraction) {
+                    fraction = fraction * 10 + (character - '0');
+                    fractionScale *= 10;
+                } else {
+                    integerPart = integerPart * 10 + (character - '0');
+                    groupDigits++;
+                }
+            } else if (character == ',' && !inFraction) {
+                // The first group may be 1 to 3 digits long, all others exactly 3
+                if (groupDigits == 0 || groupDigits > 3 || (grouped && groupDigits != 3)) {
+                    return fail();
+                }
+                grouped = true;
+                groupDigits = 0;
+            } else if (character == '.' && !inFraction) {
+                if (groupDigits == 0 || (grouped && groupDigits != 3)) {
+                    return fail();
+                }
+                inFraction = true;
+            } else {
+                return fail();
+            }
+        }
+
+        if (inFraction ? fractionScale == 1 : groupDigits == 0 || (grouped && groupDigits != 3)) {
+            // Ends with a separator
+            return fail();
+        }
+        return true;
+    }
+
+    /**
+     * @return The integer part of the scanned number, cut off at the int range
+     */
+    public int getInt() {
+        return (int) Math.min(integerPart, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return The integer part of the scanned number
+     */
+    public long getLong() {
+        return integerPart;
+    }
+
+    /**
+     * @return The scanned number including decimals
+     */
+    public double getDouble() {
+        if (fractionScale == 1) {
+            return integerPart;
+        }
+        // Dividing the exact digits once gives the same result as Double.parseDouble
+        return (double) (integerPart * fractionScale + fraction) / fractionScale;
+    }
+
+    /**
+     * @return Whether the scanned number had decimals
+     */
+    public boolean isDecimal() {
+        return fractionScale > 1;
+    }
+
+    private boolean fail() {
+        reset();
+        return false;
+    }
+
+    private void reset() {
+        integerPart = 0;
+        fraction = 0;
+        fractionScale = 1;
+    }
+}
@@ -1,48 +1,268 @@
 package codes.biscuit.skyblocklib.parsers;
 
-import codes.biscuit.skyblocklib.SkyblockLib;
 import codes.biscuit.skyblocklib.calendar.SkyblockCalendar;
+import codes.biscuit.skyblocklib.event.SkyblockJoinedEvent;
+import codes.biscuit.skyblocklib.event.SkyblockLeftEvent;
+import codes.biscuit.skyblocklib.event.SkyblockScoreboardUpdateEvent;
 import codes.biscuit.skyblocklib.event.SkyblockTimeUpdateEvent;
+import codes.biscuit.skyblocklib.scoreboard.SidebarModel;
+import codes.biscuit.skyblocklib.scoreboard.SkyblockScoreboard;
+import codes.biscuit.skyblocklib.skyblock.Skyblock;
 import codes.biscuit.skyblocklib.utils.TextUtils;
+import com.google.common.collect.Sets;
 import net.minecraftforge.fml.common.eventhandler.EventBus;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
- * Class for parsing information from the Skyblock scoreboard
+ * Class for parsing information from the Skyblock scoreboard. The date and time go to the
+ * {@link SkyblockCalendar}, everything else to the {@link SkyblockScoreboard}.
  */
 public class ScoreboardParser {
 
+    private static final Set<String> SKYBLOCK_IN_ALL_LANGUAGES = Sets.newHashSet("SKYBLOCK","\u7A7A\u5C9B\u751F\u5B58");
+
+    // ----------------------------------
+    // | Prefix tree of SKYBLOCK_IN_ALL_LANGUAGES.
+    // | Every node has the characters that lead
+    // | out of it and the nodes they lead to,
+    // | the root is node 0.
+    // ----------------------------------
+    private static final char[][] TITLE_TREE_CHARACTERS;
+    private static final int[][] TITLE_TREE_TARGETS;
+    private static final boolean[] TITLE_TREE_ACCEPTING;
+
+    static {
+        List<StringBuilder> characters = new ArrayList<>();
+        List<List<Integer>> targets = new ArrayList<>();
+        List<Boolean> accepting = new ArrayList<>();
+        characters.add(new StringBuilder());
+        targets.add(new ArrayList<>());
+        accepting.add(false);
+        for (String title : SKYBLOCK_IN_ALL_LANGUAGES) {
+            int node = 0;
+            for (int i = 0; i < title.length(); i++) {
+                int index = characters.get(node).indexOf(String.valueOf(title.charAt(i)));
+                if (index >= 0) {
+                    node = targets.get(node).get(index);
+                } else {
+                    characters.get(node).append(title.charAt(i));
+                    targets.get(node).add(characters.size());
+                    node = characters.size();
+                    characters.add(new StringBuilder());
+                    targets.add(new ArrayList<>());
+                    accepting.add(false);
+                }
+            }
+            accepting.set(node, true);
+        }
+
+        TITLE_TREE_CHARACTERS = new char[characters.size()][];
+        TITLE_TREE_TARGETS = new int[characters.size()][];
+        TITLE_TREE_ACCEPTING = new boolean[characters.size()];
+        for (int node = 0; node < characters.size(); node++) {
+            TITLE_TREE_CHARACTERS[node] = characters.get(node).toString().toCharArray();
+            TITLE_TREE_TARGETS[node] = targets.get(node).stream().mapToInt(Integer::intValue).toArray();
+            TITLE_TREE_ACCEPTING[node] = accepting.get(node);
+        }
+    }
+
     private final EventBus EVENT_BUS;
+    private final Skyblock skyblock;
 
-    public ScoreboardParser(EventBus EVENT_BUS) {
+    // The date and time found in every sidebar line, so only changed lines need to be parsed again
+    private final String[] lineDates = new String[SidebarModel.MAX_LINES];
+    private final String[] lineTimes = new String[SidebarModel.MAX_LINES];
+    private long parsedCount;
+    private long skippedCount;
+    private String lastTitle;
+    private boolean lastTitleSkyblock;
+    // Lines of other sidebars aren't parsed, so the first Skyblock sidebar after one has to parse all lines again
+    private boolean linesOutdated = true;
+
+    public ScoreboardParser(EventBus EVENT_BUS, Skyblock skyblock) {
         this.EVENT_BUS = EVENT_BUS;
+        this.skyblock = skyblock;
     }
 
     /**
-     * Parses the scoreboard lines for useful information.
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Handles an update of the sidebar. If its title changed, it fires a {@link SkyblockJoinedEvent} or
+     * {@link SkyblockLeftEvent} when the player joined or left Skyblock. The {@link SidebarModel#isLineChanged(int)
+     * changed} lines of a Skyblock sidebar are parsed for useful information, other sidebars are ignored.
      *
-     * @param scoreboardLines List of lines in the Scoreboard
+     * @param sidebarModel The sidebar
      */
-    public void parseScoreboard(List<String> scoreboardLines) {
+    public void parseSidebar(SidebarModel sidebarModel) {
+        parsedCount++;
+        String title = sidebarModel.getTitle();
+        if (title != null && sidebarModel.isTitleChanged()) {
+            if (isSkyblockTitle(title)) {
+                // If it's a Skyblock scoreboard and the player has not joined Skyblock yet,
+                // this indicates that he did so.
+                if (!skyblock.isOnSkyblock()) {
+                    EVENT_BUS.post(new SkyblockJoinedEvent());
+                }
+            } else {
+                // If it's not a Skyblock scoreboard, the player must have left Skyblock and
+                // be in some other Hypixel lobby or game.
+                if (skyblock.isOnSkyblock()) {
+                    EVENT_BUS.post(new SkyblockLeftEvent());
+                }
+            }
+        }
+        if (title == null || !isSkyblockTitle(title)) {
+            linesOutdated = true;
+            return;
+        }
+        boolean allLines = linesOutdated;
+        linesOutdated = false;
+        if (!allLines && sidebarModel.getChangedLines() == 0) {
+            return;
+        }
+
+        SkyblockScoreboard scoreboard = skyblock.getScoreboard();
+        for (int i = 0; i < SidebarModel.MAX_LINES; i++) {
+            if (allLines || sidebarModel.isLineChanged(i)) {
+                lineDates[i] = null;
+                lineTimes[i] = null;
+                String line = i < sidebarModel.getLineCount() ? sidebarModel.getLine(i) : null;
+                scoreboard.updateLine(i, line);
+                if (line != null) {
+                    String strippedLine = stripLine(line);
+                    if (isTime(strippedLine)) {
+                        lineTimes[i] = strippedLine;
+                    }
+                    if (isDate(strippedLine)) {
+                        lineDates[i] = strippedLine;
+                    }
+                }
+            }
+        }
+
+        // Like with all lines, the last one wins
         String dateString = null;
         String timeString = null;
-        for (String scoreboardLine : scoreboardLines) {
-            String strippedLine = TextUtils.stripColor(scoreboardLine).trim();
-            strippedLine = TextUtils.keepLettersAndNumbersOnly(strippedLine);
+        for (int i = 0; i < sidebarModel.getLineCount(); i++) {
+            if (lineDates[i] != null) {
+                dateString = lineDates[i];
+            }
+            if (lineTimes[i] != null) {
+                timeString = lineTimes[i];
+            }
+        }
+        updateCalendar(dateString, timeString);
+        postScoreboardUpdate(scoreboard.updateFields(sidebarModel.getLineCount()), scoreboard);
+    }
 
-            if (strippedLine.endsWith("am") || strippedLine.endsWith("pm")) {
-                timeString = strippedLine;
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Counts a tick in which the sidebar didn't change, so parsing was skipped.
+     */
+    public void skipSidebar() {
+        skippedCount++;
+    }
+
+    /**
+     * @return How often the sidebar was parsed, including updates that only changed its title
+     */
+    public long getParsedCount() {
+        return parsedCount;
+    }
+
+    /**
+     * @return How often parsing was skipped because neither the sidebar's title nor its lines changed
+     */
+    public long getSkippedCount() {
+        return skippedCount;
+    }
+
+    /**
+     * Sets the parsed and skipped counts to 0.
+     */
+    public void resetCounts() {
+        parsedCount = 0;
+        skippedCount = 0;
+    }
+
+    /**
+     * Check if a scoreboard is a Skyblock scoreboard by checking the display name of its sidebar objective
+     * against the SKYBLOCK title in various languages. The result of the last title is kept, so the same title
+     * is only checked once.
+     *
+     * @param title Display name of the sidebar objective, with or without color codes
+     * @return Whether it's a Skyblock scoreboard
+     */
+    public boolean isSkyblockTitle(String title) {
+        if (!title.equals(lastTitle)) {
+            lastTitle = title;
+            lastTitleSkyblock = isSkyblockScoreboard(title);
+        }
+        return lastTitleSkyblock;
+    }
+
+    /**
+     * Check if a scoreboard is a Skyblock scoreboard by checking the display name of its sidebar objective
+     * against the SKYBLOCK title in various languages.
+     * <p>
+     * The titles are matched in a single pass over the display name, by walking a prefix tree of all languages
+     * while skipping color codes, so more languages don't make this slower.
+     *
+     * @param objectiveName Display name of the sidebar objective, with or without color codes
+     * @return Whether it's a Skyblock scoreboard
+     */
+    public static boolean isSkyblockScoreboard(String objectiveName) {
+        int node = 0;
+        for (int i = 0; i < objectiveName.length(); i++) {
+            char character = objectiveName.charAt(i);
+            if (character == '§') {
+                // Color code
+                i++;
+                continue;
+            }
+            node = findTransition(node, character);
+            if (node < 0) {
+                return false;
             }
-            if(strippedLine.endsWith("st")
-                    || strippedLine.endsWith("nd")
-                    || strippedLine.endsWith("rd")
-                    || strippedLine.endsWith("th")) {
-                dateString = strippedLine;
+            if (TITLE_TREE_ACCEPTING[node]) {
+                return true;
             }
         }
+        return false;
+    }
 
-        updateCalendar(dateString, timeString);
+    private static int findTransition(int node, char character) {
+        char[] characters = TITLE_TREE_CHARACTERS[node];
+        for (int i = 0; i < characters.length; i++) {
+            if (characters[i] == character) {
+                return TITLE_TREE_TARGETS[node][i];
+            }
+        }
+        return -1;
+    }
+
+    private void postScoreboardUpdate(int changedFields, SkyblockScoreboard scoreboard) {
+        if (changedFields != 0) {
+            EVENT_BUS.post(new SkyblockScoreboardUpdateEvent(changedFields, scoreboard));
+        }
+    }
+
+    private static String stripLine(String scoreboardLine) {
+        String strippedLine = TextUtils.stripColor(scoreboardLine).trim();
+        return TextUtils.keepLettersAndNumbersOnly(strippedLine);
+    }
+
+    private static boolean isTime(String strippedLine) {
+        return strippedLine.endsWith("am") || strippedLine.endsWith("pm");
+    }
+
+    private static boolean isDate(String strippedLine) {
+        return strippedLine.endsWith("st")
+                || strippedLine.endsWith("nd")
+                || strippedLine.endsWith("rd")
+                || strippedLine.endsWith("th");
     }
 
     /**
@@ -54,7 +274,7 @@ public class ScoreboardParser {
     private void updateCalendar(String dateString, String timeString) {
         SkyblockCalendar skyblockCalendar = SkyblockCalendar.parse(dateString, timeString);
         if(skyblockCalendar != null) {
-            SkyblockCalendar mainCalendar = SkyblockLib.getSkyblock().getCalendar();
+            SkyblockCalendar mainCalendar = skyblock.getCalendar();
             if(!mainCalendar.equals(skyblockCalendar)) {
                 EVENT_BUS.post(new SkyblockTimeUpdateEvent(mainCalendar, skyblockCalendar));
                 mainCalendar.setMonth(skyblockCalendar.getMonth());
@@ -0,0 +1,38 @@
+package codes.biscuit.skyblocklib.parsers;
+
+/**
+ * Maps trigger glyphs to their {@link ActionBarSectionType}.
+ * The table is indexed directly by the character, split into pages of 256 characters that only get created once a
+ * trigger is registered in them. Lookups therefore take the same time no matter how many types are registered.
+ */
+final class SectionDispatchTable {
+
+    private final ActionBarSectionType[][] pages = new ActionBarSectionType[256][];
+
+    /**
+     * @param character Character to look up
+     * @return The section type triggered by that character or {@code null}
+     */
+    ActionBarSectionType get(char character) {
+        ActionBarSectionType[] page = pages[character >>> 8];
+        return page == null ? null : page[character & 0xFF];
+    }
+
+    /**
+     * Maps a trigger glyph to a section type, replacing any type it was mapped to before.
+     *
+     * @param character Trigger glyph
+     * @param sectionType Section type it triggers
+     * @return The type the trigger was mapped to before or {@code null}
+     */
+    ActionBarSectionType put(char character, ActionBarSectionType sectionType) {
+        ActionBarSectionType[] page = pages[character >>> 8];
+        if (page == null) {
+            page = new ActionBarSectionType[256];
+            pages[character >>> 8] = page;
+        }
+        ActionBarSectionType previous = page[character & 0xFF];
+        page[character & 0xFF] = sectionType;
+        return previous;
+    }
+}
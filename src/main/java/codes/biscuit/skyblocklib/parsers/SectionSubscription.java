@@ -0,0 +1,82 @@
+package codes.biscuit.skyblocklib.parsers;
+
+/**
+ * <h3>This should not be used outside SkyblockLib!</h3>
+ * Keeps the action bar section types a component needs every update of {@link ActionBarParser#subscribe(ActionBarSectionType)
+ * subscribed} while the component is enabled, so sections nothing needs stay unparsed until they are read.
+ * The subscriptions move along when the component gets another parser.
+ */
+public class SectionSubscription {
+
+    private final char[] triggers;
+    // The section types that were subscribed to, which may not be the registered ones anymore when unsubscribing
+    private final ActionBarSectionType[] subscribedTypes;
+    private ActionBarParser actionBarParser;
+    private boolean enabled;
+
+    /**
+     * @param triggers Trigger glyphs of the section types to subscribe to, like {@link ActionBarParser#HEALTH_TRIGGER}
+     */
+    public SectionSubscription(char... triggers) {
+        this.triggers = triggers.clone();
+        subscribedTypes = new ActionBarSectionType[triggers.length];
+    }
+
+    /**
+     * Set the action bar parser to subscribe on. The subscriptions on the previous parser are removed.
+     *
+     * @param actionBarParser The action bar parser or {@code null}
+     */
+    public void setActionBarParser(ActionBarParser actionBarParser) {
+        unsubscribe();
+        this.actionBarParser = actionBarParser;
+        if (enabled) {
+            subscribe();
+        }
+    }
+
+    /**
+     * Set whether the section types are subscribed to.
+     *
+     * @param enabled Whether the component that needs them is enabled
+     */
+    public void setEnabled(boolean enabled) {
+        if (this.enabled == enabled) {
+            return;
+        }
+        this.enabled = enabled;
+        if (enabled) {
+            subscribe();
+        } else {
+            unsubscribe();
+        }
+    }
+
+    /**
+     * @return Whether the section types are subscribed to
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private void subscribe() {
+        if (actionBarParser == null) {
+            return;
+        }
+        for (int i = 0; i < triggers.length; i++) {
+            subscribedTypes[i] = actionBarParser.getSectionType(triggers[i]);
+            if (subscribedTypes[i] != null) {
+                actionBarParser.subscribe(subscribedTypes[i]);
+            }
+        }
+    }
+
+    private void unsubscribe() {
+        for (int i = 0; i < subscribedTypes.length; i++) {
+            if (subscribedTypes[i] != null) {
+                actionBarParser.unsubscribe(subscribedTypes[i]);
+                subscribedTypes[i] = null;
+            }
+        }
+    }
+}
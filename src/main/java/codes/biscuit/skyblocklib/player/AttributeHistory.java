@@ -0,0 +1,272 @@
+package codes.biscuit.skyblocklib.player;
+
+import codes.biscuit.skyblocklib.event.AttributesUpdateEvent;
+import codes.biscuit.skyblocklib.parsers.ActionBarParser;
+import codes.biscuit.skyblocklib.parsers.SectionSubscription;
+import com.google.common.base.Preconditions;
+
+/**
+ * Remembers the latest values of the player's {@link Attributes}, with the time they were set, for graphs and
+ * statistics like the health lost in the last 10 seconds.
+ * <p>
+ * A sample of all attributes is added whenever any of them changes, so each value is valid until the next sample.
+ * Once the {@link #getCapacity() capacity} is reached, the oldest samples get overwritten. All samples are stored in
+ * primitive arrays, one per attribute, and neither adding samples nor querying them allocates anything.
+ * <p>
+ * Samples are only recorded while the history is {@link #setEnabled(boolean) enabled}, which subscribes to the action
+ * bar sections the attributes come from, so every change gets recorded even if nobody else reads them.
+ * <p>
+ * Queries cover a window from a timestamp until now. The window includes the value that was valid at its start, which
+ * is the last sample before it, or the oldest sample if there is none.
+ */
+public class AttributeHistory {
+
+    /**
+     * Amount of samples kept unless {@link #setCapacity(int) set} otherwise
+     */
+    public static final int DEFAULT_CAPACITY = 2048;
+
+    private long[] timestamps;
+    private int[][] values;
+    private int start;
+    private int size;
+
+    private final SectionSubscription subscription = new SectionSubscription(ActionBarParser.HEALTH_TRIGGER,
+            ActionBarParser.MANA_TRIGGER, ActionBarParser.DEFENSE_TRIGGER);
+
+    AttributeHistory(int capacity) {
+        Preconditions.checkArgument(capacity > 0, "The capacity must be positive");
+        timestamps = new long[capacity];
+        values = new int[Attributes.COUNT][capacity];
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Adds a sample of the attribute values after an update.
+     *
+     * @param timestamp Time of the update in milliseconds
+     * @param updateEvent The update
+     */
+    public void add(long timestamp, AttributesUpdateEvent updateEvent) {
+        if (!subscription.isEnabled()) {
+            return;
+        }
+        int capacity = timestamps.length;
+        int index;
+        if (size < capacity) {
+            index = (start + size) % capacity;
+            size++;
+        } else {
+            index = start;
+            start = (start + 1) % capacity;
+        }
+        timestamps[index] = timestamp;
+        for (int i = 0; i < Attributes.COUNT; i++) {
+            values[i][index] = updateEvent.getNewValue(1 << i);
+        }
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Set the action bar parser the attributes come from, which the history subscribes to while it's enabled.
+     *
+     * @param actionBarParser The action bar parser or {@code null}
+     */
+    public void setActionBarParser(ActionBarParser actionBarParser) {
+        subscription.setActionBarParser(actionBarParser);
+    }
+
+    /**
+     * Set whether samples are recorded. A disabled history keeps its samples, but doesn't add any new ones and
+     * doesn't keep the attribute sections of the action bar subscribed. The history is disabled by default.
+     *
+     * @param enabled Whether samples are recorded
+     */
+    public void setEnabled(boolean enabled) {
+        subscription.setEnabled(enabled);
+    }
+
+    /**
+     * @return Whether samples are recorded
+     */
+    public boolean isEnabled() {
+        return subscription.isEnabled();
+    }
+
+    /**
+     * Set how many samples are kept. The newest samples are kept when it shrinks.
+     *
+     * @param capacity The maximum amount of samples
+     */
+    public void setCapacity(int capacity) {
+        Preconditions.checkArgument(capacity > 0, "The capacity must be positive");
+        int kept = Math.min(size, capacity);
+        long[] newTimestamps = new long[capacity];
+        int[][] newValues = new int[Attributes.COUNT][capacity];
+        for (int i = 0; i < kept; i++) {
+            int index = toIndex(size - kept + i);
+            newTimestamps[i] = timestamps[index];
+            for (int attribute = 0; attribute < Attributes.COUNT; attribute++) {
+                newValues[attribute][i] = values[attribute][index];
+            }
+        }
+        timestamps = newTimestamps;
+        values = newValues;
+        start = 0;
+        size = kept;
+    }
+
+    /**
+     * @return The maximum amount of samples
+     */
+    public int getCapacity() {
+        return timestamps.length;
+    }
+
+    /**
+     * @return The amount of samples
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all samples.
+     */
+    public void clear() {
+        start = 0;
+        size = 0;
+    }
+
+    /**
+     * @param sample Index of a sample, from {@code 0} for the oldest to {@code size() - 1} for the newest
+     * @return Time of the sample in milliseconds
+     */
+    public long getTimestamp(int sample) {
+        Preconditions.checkElementIndex(sample, size);
+        return timestamps[toIndex(sample)];
+    }
+
+    /**
+     * @param attribute Bit of a single attribute, like {@link Attributes#HEALTH}
+     * @param sample Index of a sample, from {@code 0} for the oldest to {@code size() - 1} for the newest
+     * @return Value of the attribute in the sample
+     */
+    public int getValue(int attribute, int sample) {
+        Preconditions.checkElementIndex(sample, size);
+        return values[Integer.numberOfTrailingZeros(attribute)][toIndex(sample)];
+    }
+
+    /**
+     * @param attribute Bit of a single attribute, like {@link Attributes#HEALTH}
+     * @param since Start of the window in milliseconds
+     * @return Lowest value of the attribute in the window or {@code 0} if there are no samples
+     */
+    public int getMin(int attribute, long since) {
+        if (size == 0) {
+            return 0;
+        }
+        int[] attributeValues = values[Integer.numberOfTrailingZeros(attribute)];
+        int min = Integer.MAX_VALUE;
+        for (int sample = findWindowStart(since); sample < size; sample++) {
+            min = Math.min(min, attributeValues[toIndex(sample)]);
+        }
+        return min;
+    }
+
+    /**
+     * @param attribute Bit of a single attribute, like {@link Attributes#HEALTH}
+     * @param since Start of the window in milliseconds
+     * @return Highest value of the attribute in the window or {@code 0} if there are no samples
+     */
+    public int getMax(int attribute, long since) {
+        if (size == 0) {
+            return 0;
+        }
+        int[] attributeValues = values[Integer.numberOfTrailingZeros(attribute)];
+        int max = Integer.MIN_VALUE;
+        for (int sample = findWindowStart(since); sample < size; sample++) {
+            max = Math.max(max, attributeValues[toIndex(sample)]);
+        }
+        return max;
+    }
+
+    /**
+     * Get the average of an attribute from a time until now, see {@link #getAverage(int, long, long)}.
+     *
+     * @param attribute Bit of a single attribute, like {@link Attributes#HEALTH}
+     * @param since Start of the window in milliseconds
+     * @return Time weighted average of the attribute in the window or {@code 0} if there are no samples
+     */
+    public double getAverage(int attribute, long since) {
+        return getAverage(attribute, since, System.currentTimeMillis());
+    }
+
+    /**
+     * Get the time weighted average of an attribute between two times. Every sample counts as long as it was the
+     * current value inside the window, so a value that held for a minute weighs more than one that held for a second.
+     * The newest sample is the current value until {@code now}.
+     *
+     * @param attribute Bit of a single attribute, like {@link Attributes#HEALTH}
+     * @param since Start of the window in milliseconds
+     * @param now End of the window in milliseconds
+     * @return Time weighted average of the attribute in the window or {@code 0} if there are no samples
+     */
+    public double getAverage(int attribute, long since, long now) {
+        if (size == 0) {
+            return 0;
+        }
+        int[] attributeValues = values[Integer.numberOfTrailingZeros(attribute)];
+        long sum = 0;
+        long duration = 0;
+        for (int sample = findWindowStart(since); sample < size; sample++) {
+            long validFrom = Math.max(timestamps[toIndex(sample)], since);
+            long validUntil = sample + 1 < size ? Math.min(timestamps[toIndex(sample + 1)], now) : now;
+            if (validUntil > validFrom) {
+                sum += attributeValues[toIndex(sample)] * (validUntil - validFrom);
+                duration += validUntil - validFrom;
+            }
+        }
+        // Without any time in the window, the value at its end is the average
+        return duration > 0 ? (double) sum / duration : attributeValues[toIndex(findWindowStart(now))];
+    }
+
+    /**
+     * Get how much an attribute changed during the window, like {@code -300} if the player lost 300 health.
+     *
+     * @param attribute Bit of a single attribute, like {@link Attributes#HEALTH}
+     * @param since Start of the window in milliseconds
+     * @return Newest value minus the value at the start of the window or {@code 0} if there are no samples
+     */
+    public int getDelta(int attribute, long since) {
+        if (size == 0) {
+            return 0;
+        }
+        int[] attributeValues = values[Integer.numberOfTrailingZeros(attribute)];
+        return attributeValues[toIndex(size - 1)] - attributeValues[toIndex(findWindowStart(since))];
+    }
+
+    /**
+     * Finds the sample that was valid at a time, with a binary search as samples are added in order.
+     *
+     * @param since Start of the window in milliseconds
+     * @return Index of the last sample at or before that time, or {@code 0} if all samples are newer
+     */
+    private int findWindowStart(long since) {
+        int low = 0;
+        int high = size - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (timestamps[toIndex(middle)] <= since) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    private int toIndex(int sample) {
+        return (start + sample) % timestamps.length;
+    }
+}
@@ -0,0 +1,186 @@
+package codes.biscuit.skyblocklib.player;
+
+import codes.biscuit.skyblocklib.item.PowerOrb;
+import codes.biscuit.skyblocklib.item.PowerOrbType;
+import codes.biscuit.skyblocklib.model.SkyblockItemAbility;
+import codes.biscuit.skyblocklib.parsers.ActionBarParser;
+import com.google.common.base.Preconditions;
+
+/**
+ * Predicts the player's health and mana between action bar updates.
+ * <p>
+ * {@link Attributes} only change when an action bar arrives, which makes displays that read them every frame jump
+ * in steps. The predictor keeps its own values that regenerate every tick and lose the mana cost of used abilities
+ * right away. Whenever a new action bar was received, they get synced to the real values again and the difference
+ * is recorded, see {@link #getAverageHealthError()} and {@link #getAverageManaError()}.
+ * <p>
+ * Regeneration is based on what is known about the player:
+ * <ul>
+ * <li>Mana regenerates {@value #MANA_REGEN}% of the maximum mana per second, increased by the active
+ * {@link PowerOrbType#getManaRegen() power orb}</li>
+ * <li>Health regenerates by the active {@link PowerOrbType#getHealthRegen() power orb} and healing wand</li>
+ * </ul>
+ */
+public class AttributePredictor {
+
+    /**
+     * Percentage of the maximum mana that regenerates every second without any boosts
+     */
+    public static final int MANA_REGEN = 2;
+    private static final int TICKS_PER_SECOND = 20;
+
+    private final SkyblockPlayer skyblockPlayer;
+
+    private boolean synced;
+    private int syncedActionBar;
+    private int resyncInterval = 1;
+
+    private double health;
+    private double mana;
+    private int maxHealth;
+    private int maxMana;
+    private int wandHealing;
+
+    private int resyncs;
+    private double totalHealthError;
+    private double totalManaError;
+
+    AttributePredictor(SkyblockPlayer skyblockPlayer) {
+        this.skyblockPlayer = skyblockPlayer;
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Advances the prediction by one client tick. If enough action bars arrived since the last sync,
+     * the predicted values are synced to the real ones first.
+     */
+    public void tick() {
+        ActionBarParser actionBarParser = skyblockPlayer.getActionBarParser();
+        if (actionBarParser == null) {
+            return;
+        }
+        int actionBarCount = actionBarParser.getActionBarCount();
+        if (!synced || actionBarCount - syncedActionBar >= resyncInterval) {
+            if (actionBarCount != syncedActionBar) {
+                sync(actionBarCount);
+            }
+            return;
+        }
+
+        // Regenerate what is regenerated every second, split up across its ticks
+        PowerOrb powerOrb = skyblockPlayer.getActivePowerOrb();
+        PowerOrbType powerOrbType = powerOrb == null ? null : powerOrb.getPowerOrbType();
+        double healthPerSecond = wandHealing;
+        double manaPerSecond = maxMana * MANA_REGEN / 100.0;
+        if (powerOrbType != null) {
+            healthPerSecond += maxHealth * powerOrbType.getHealthRegen();
+            manaPerSecond *= 1 + powerOrbType.getManaRegen();
+        }
+        // Health can be above the maximum through absorption, so regeneration only stops at it
+        if (health < maxHealth) {
+            health = Math.min(health + healthPerSecond / TICKS_PER_SECOND, maxHealth);
+        }
+        mana = Math.min(mana + manaPerSecond / TICKS_PER_SECOND, Math.max(mana, maxMana));
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Subtracts the mana cost of a used ability from the predicted mana.
+     *
+     * @param ability The ability that was used
+     */
+    public void onAbilityUsed(SkyblockItemAbility ability) {
+        if (synced) {
+            mana = Math.max(mana - ability.getManaCost(), 0);
+        }
+    }
+
+    private void sync(int actionBarCount) {
+        Attributes attributes = skyblockPlayer.getAttributes();
+        int realHealth = attributes.getHealth();
+        int realMana = attributes.getMana();
+        if (synced) {
+            resyncs++;
+            totalHealthError += Math.abs(health - realHealth);
+            totalManaError += Math.abs(mana - realMana);
+        }
+        health = realHealth;
+        mana = realMana;
+        maxHealth = attributes.getMaxHealth();
+        maxMana = attributes.getMaxMana();
+        wandHealing = attributes.getWandHealing();
+        syncedActionBar = actionBarCount;
+        synced = true;
+    }
+
+    /**
+     * Get the predicted health, or the last known one if no action bar was received yet.
+     *
+     * @return The player's predicted health
+     */
+    public int getHealth() {
+        return synced ? (int) health : skyblockPlayer.getHealth();
+    }
+
+    /**
+     * Get the predicted mana, or the last known one if no action bar was received yet.
+     *
+     * @return The player's predicted mana
+     */
+    public int getMana() {
+        return synced ? (int) mana : skyblockPlayer.getMana();
+    }
+
+    /**
+     * Set after how many action bars the predicted values get synced to the real ones. The default of {@code 1}
+     * syncs on every action bar. Higher values rely on the prediction for longer, so if nothing else subscribes to
+     * the health and mana sections, the action bars in between don't have to be parsed at all.
+     *
+     * @param resyncInterval Amount of action bars between syncs, at least 1
+     */
+    public void setResyncInterval(int resyncInterval) {
+        Preconditions.checkArgument(resyncInterval >= 1, "The resync interval must be at least 1");
+        this.resyncInterval = resyncInterval;
+    }
+
+    /**
+     * @return Amount of action bars between syncs
+     */
+    public int getResyncInterval() {
+        return resyncInterval;
+    }
+
+    /**
+     * @return How often the predicted values were compared to real values
+     */
+    public int getResyncCount() {
+        return resyncs;
+    }
+
+    /**
+     * Get how far the predicted health was off from the real health on average, when syncing to a new action bar.
+     *
+     * @return Average health difference or {@code 0} if there was no resync yet
+     */
+    public double getAverageHealthError() {
+        return resyncs == 0 ? 0 : totalHealthError / resyncs;
+    }
+
+    /**
+     * Get how far the predicted mana was off from the real mana on average, when syncing to a new action bar.
+     *
+     * @return Average mana difference or {@code 0} if there was no resync yet
+     */
+    public double getAverageManaError() {
+        return resyncs == 0 ? 0 : totalManaError / resyncs;
+    }
+
+    /**
+     * Resets the recorded prediction errors.
+     */
+    public void resetAccuracy() {
+        resyncs = 0;
+        totalHealthError = 0;
+        totalManaError = 0;
+    }
+}
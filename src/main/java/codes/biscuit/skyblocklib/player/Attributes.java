@@ -1,7 +1,30 @@
 package codes.biscuit.skyblocklib.player;
 
+import codes.biscuit.skyblocklib.event.AttributesUpdateEvent;
+import codes.biscuit.skyblocklib.parsers.ActionBarParser;
+
 public class Attributes {
 
+    // ----------------------------------
+    // | Bits of the changed attributes
+    // | in an AttributesUpdateEvent
+    // ----------------------------------
+    public static final int DEFENCE = 1;
+    public static final int HEALTH = 1 << 1;
+    public static final int MAX_HEALTH = 1 << 2;
+    public static final int MANA = 1 << 3;
+    public static final int MAX_MANA = 1 << 4;
+    public static final int WAND_HEALING = 1 << 5;
+    /**
+     * Amount of attributes, each one has a bit from {@code 1 << 0} to {@code 1 << (COUNT - 1)}
+     */
+    public static final int COUNT = 6;
+
+    private final SkyblockPlayer skyblockPlayer;
+
+    private int changedAttributes;
+    private final int[] previousValues = new int[COUNT];
+
     private int defence = 0;
     private int health = 100;
     private int maxHealth = 100;
@@ -9,28 +32,145 @@ public class Attributes {
     private int maxMana = 100;
     private int wandHealing = 0;
 
+    public Attributes() {
+        this(null);
+    }
+
+    /**
+     * Create attributes that belong to a player, so reading them makes sure the action bar sections they come from
+     * are parsed.
+     *
+     * @param skyblockPlayer The player these attributes belong to
+     */
+    Attributes(SkyblockPlayer skyblockPlayer) {
+        this.skyblockPlayer = skyblockPlayer;
+    }
+
+    /**
+     * Parses the action bar section of a type if it hasn't been parsed yet.
+     *
+     * @param trigger Trigger glyph of the section type
+     */
+    private void parsePendingSection(char trigger) {
+        if (skyblockPlayer != null) {
+            skyblockPlayer.parsePendingSection(trigger);
+        }
+    }
+
+    /**
+     * Remembers that an attribute changed, along with its value before the first change since the last
+     * {@link #takeChanges()}.
+     *
+     * @param attribute Bit of the attribute
+     * @param previousValue Value before the change
+     */
+    private void markChanged(int attribute, int previousValue) {
+        if ((changedAttributes & attribute) == 0) {
+            changedAttributes |= attribute;
+            previousValues[Integer.numberOfTrailingZeros(attribute)] = previousValue;
+        }
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Collects the attributes that changed since the last call into an event and starts tracking from scratch.
+     * Attributes that changed back to their previous value don't count as changed.
+     *
+     * @return Event with the changed attributes or {@code null} if none changed
+     */
+    public AttributesUpdateEvent takeChanges() {
+        for (int changed = changedAttributes; changed != 0; changed &= changed - 1) {
+            int i = Integer.numberOfTrailingZeros(changed);
+            if (getValue(i) == previousValues[i]) {
+                changedAttributes &= ~(1 << i);
+            }
+        }
+        if (changedAttributes == 0) {
+            return null;
+        }
+
+        int[] oldValues = new int[COUNT];
+        int[] newValues = new int[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            newValues[i] = getValue(i);
+            oldValues[i] = (changedAttributes & 1 << i) != 0 ? previousValues[i] : newValues[i];
+        }
+        AttributesUpdateEvent updateEvent = new AttributesUpdateEvent(changedAttributes, oldValues, newValues);
+        changedAttributes = 0;
+        return updateEvent;
+    }
+
+    /**
+     * @param attribute Bit of a single attribute, like {@link #HEALTH}
+     * @return The attribute's value as of the last parsed section, without parsing pending sections
+     */
+    int getParsedValue(int attribute) {
+        return getValue(Integer.numberOfTrailingZeros(attribute));
+    }
+
+    /**
+     * @param index Index of the attribute's bit, like {@code Integer.numberOfTrailingZeros(HEALTH)}
+     * @return The attribute's value without parsing pending sections
+     */
+    private int getValue(int index) {
+        switch (index) {
+            case 0:
+                return defence;
+            case 1:
+                return health;
+            case 2:
+                return maxHealth;
+            case 3:
+                return mana;
+            case 4:
+                return maxMana;
+            case 5:
+                return wandHealing;
+            default:
+                throw new IllegalArgumentException("Unknown attribute index " + index);
+        }
+    }
+
     public void setDefence(int defence) {
-        this.defence = defence;
+        if (this.defence != defence) {
+            markChanged(DEFENCE, this.defence);
+            this.defence = defence;
+        }
     }
 
     public void setHealth(int health) {
-        this.health = health;
+        if (this.health != health) {
+            markChanged(HEALTH, this.health);
+            this.health = health;
+        }
     }
 
     public void setMaxHealth(int maxHealth) {
-        this.maxHealth = maxHealth;
+        if (this.maxHealth != maxHealth) {
+            markChanged(MAX_HEALTH, this.maxHealth);
+            this.maxHealth = maxHealth;
+        }
     }
 
     public void setMana(int mana) {
-        this.mana = mana;
+        if (this.mana != mana) {
+            markChanged(MANA, this.mana);
+            this.mana = mana;
+        }
     }
 
     public void setMaxMana(int maxMana) {
-        this.maxMana = maxMana;
+        if (this.maxMana != maxMana) {
+            markChanged(MAX_MANA, this.maxMana);
+            this.maxMana = maxMana;
+        }
     }
 
     public void setWandHealing(int wandHealing) {
-        this.wandHealing = wandHealing;
+        if (this.wandHealing != wandHealing) {
+            markChanged(WAND_HEALING, this.wandHealing);
+            this.wandHealing = wandHealing;
+        }
     }
 
     /**
@@ -39,6 +179,7 @@ public class Attributes {
      * @return The player's Skyblock defence.
      */
     public int getDefence() {
+        parsePendingSection(ActionBarParser.DEFENSE_TRIGGER);
         return defence;
     }
 
@@ -48,6 +189,7 @@ public class Attributes {
      * @return The player's Skyblock health.
      */
     public int getHealth() {
+        parsePendingSection(ActionBarParser.HEALTH_TRIGGER);
         return health;
     }
 
@@ -57,6 +199,7 @@ public class Attributes {
      * @return The player's maximum Skyblock health.
      */
     public int getMaxHealth() {
+        parsePendingSection(ActionBarParser.HEALTH_TRIGGER);
         return maxHealth;
     }
 
@@ -66,6 +209,7 @@ public class Attributes {
      * @return The player's mana.
      */
     public int getMana() {
+        parsePendingSection(ActionBarParser.MANA_TRIGGER);
         return mana;
     }
 
@@ -75,6 +219,7 @@ public class Attributes {
      * @return The player's maximum mana.
      */
     public int getMaxMana() {
+        parsePendingSection(ActionBarParser.MANA_TRIGGER);
         return maxMana;
     }
 
@@ -84,6 +229,7 @@ public class Attributes {
      * @return Healing wand health per second
      */
     public int getWandHealing() {
+        parsePendingSection(ActionBarParser.HEALTH_TRIGGER);
         return wandHealing;
     }
 }
@@ -0,0 +1,247 @@
+package codes.biscuit.skyblocklib.player;
+
+import codes.biscuit.skyblocklib.parsers.ActionBarParser;
+import codes.biscuit.skyblocklib.parsers.SectionSubscription;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Tracks how the charges of items like the Zombie Sword change over time, to estimate how long a charge takes to
+ * recharge and when the next one is available.
+ * <p>
+ * Charges recharge one after another on a timer that starts as soon as one is missing. Every recharge that is seen
+ * while the timer is known gives one sample of the recharge time. The last {@value #SAMPLES} samples per item are kept
+ * in a ring buffer with a running sum. All state is kept in primitive arrays with a slot for each of the last
+ * {@value #MAX_ITEMS} items, so recording a change doesn't allocate anything.
+ * <p>
+ * Charges are only tracked while the tracker is {@link #setEnabled(boolean) enabled}, which subscribes to the charges
+ * section of the action bar so no change is missed.
+ */
+public class ChargeTracker {
+
+    public static final int MAX_ITEMS = 8;
+    public static final int SAMPLES = 16;
+
+    private final String[] itemIds = new String[MAX_ITEMS];
+    private final long[] lastSeen = new long[MAX_ITEMS];
+    private final int[] available = new int[MAX_ITEMS];
+    private final int[] total = new int[MAX_ITEMS];
+    /**
+     * Time the recharge timer of the next charge started or {@code -1} if unknown or the item has all charges
+     */
+    private final long[] timerStart = new long[MAX_ITEMS];
+
+    private final long[][] samples = new long[MAX_ITEMS][SAMPLES];
+    private final int[] sampleCount = new int[MAX_ITEMS];
+    private final int[] nextSample = new int[MAX_ITEMS];
+    private final long[] sampleSum = new long[MAX_ITEMS];
+
+    private int currentItem = -1;
+
+    private final SectionSubscription subscription = new SectionSubscription(ActionBarParser.CHARGES_TRIGGER);
+
+    ChargeTracker() {
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Set the action bar parser the charges come from, which the tracker subscribes to while it's enabled.
+     *
+     * @param actionBarParser The action bar parser or {@code null}
+     */
+    public void setActionBarParser(ActionBarParser actionBarParser) {
+        subscription.setActionBarParser(actionBarParser);
+    }
+
+    /**
+     * Set whether charges are tracked. The tracker is disabled by default.
+     *
+     * @param enabled Whether charges are tracked
+     */
+    public void setEnabled(boolean enabled) {
+        subscription.setEnabled(enabled);
+    }
+
+    /**
+     * @return Whether charges are tracked
+     */
+    public boolean isEnabled() {
+        return subscription.isEnabled();
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Records the charges shown in the action bar. Repeats of the same charges are ignored.
+     *
+     * @param itemId Skyblock ID of the held item or {@code null} if unknown
+     * @param available Available charges
+     * @param total Total charges
+     * @param timestamp Time of the action bar in milliseconds
+     */
+    public void update(String itemId, int available, int total, long timestamp) {
+        if (!subscription.isEnabled()) {
+            return;
+        }
+        int item = findItem(itemId);
+        if (item < 0) {
+            item = addItem(itemId);
+            this.available[item] = available;
+            this.total[item] = total;
+            timerStart[item] = -1;
+        } else if (this.total[item] != total) {
+            // Another item with the same ID, its recharge time may differ
+            clearSamples(item);
+            this.available[item] = available;
+            this.total[item] = total;
+            timerStart[item] = -1;
+        } else if (this.available[item] != available) {
+            int previous = this.available[item];
+            this.available[item] = available;
+            if (available > previous && (available > previous + 1 || item != currentItem)) {
+                // Charges came back while the item wasn't watched, so it's unknown when the timer restarted
+                timerStart[item] = -1;
+            } else if (available > previous && timerStart[item] >= 0) {
+                addSample(item, timestamp - timerStart[item]);
+                timerStart[item] = available < total ? timestamp : -1;
+            } else if (available < previous && previous == total) {
+                // The first missing charge starts the timer
+                timerStart[item] = timestamp;
+            }
+        }
+        lastSeen[item] = timestamp;
+        currentItem = item;
+    }
+
+    private int findItem(String itemId) {
+        for (int i = 0; i < MAX_ITEMS; i++) {
+            if (lastSeen[i] != 0 && Objects.equals(itemIds[i], itemId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Takes a free slot or the one of the item that was seen the longest time ago.
+     */
+    private int addItem(String itemId) {
+        int item = 0;
+        for (int i = 0; i < MAX_ITEMS; i++) {
+            if (lastSeen[i] < lastSeen[item]) {
+                item = i;
+            }
+        }
+        if (item == currentItem) {
+            currentItem = -1;
+        }
+        itemIds[item] = itemId;
+        clearSamples(item);
+        return item;
+    }
+
+    private void addSample(int item, long rechargeMillis) {
+        if (sampleCount[item] == SAMPLES) {
+            sampleSum[item] -= samples[item][nextSample[item]];
+        } else {
+            sampleCount[item]++;
+        }
+        samples[item][nextSample[item]] = rechargeMillis;
+        sampleSum[item] += rechargeMillis;
+        nextSample[item] = (nextSample[item] + 1) % SAMPLES;
+    }
+
+    private void clearSamples(int item) {
+        sampleCount[item] = 0;
+        nextSample[item] = 0;
+        sampleSum[item] = 0;
+    }
+
+    /**
+     * @return Skyblock ID of the item with the last recorded charges or {@code null} if there were none or the item
+     * is unknown
+     */
+    public String getCurrentItemId() {
+        return currentItem < 0 ? null : itemIds[currentItem];
+    }
+
+    /**
+     * @param itemId Skyblock ID of the item
+     * @return Amount of measured recharges of the item, up to {@value #SAMPLES}
+     */
+    public int getSampleCount(String itemId) {
+        int item = findItem(itemId);
+        return item < 0 ? 0 : sampleCount[item];
+    }
+
+    /**
+     * Get the average time one charge of an item took to recharge.
+     *
+     * @param itemId Skyblock ID of the item
+     * @return Recharge time in milliseconds or {@code -1} if no recharge was measured yet
+     */
+    public long getRechargeMillis(String itemId) {
+        return getRechargeMillis(findItem(itemId));
+    }
+
+    private long getRechargeMillis(int item) {
+        return item < 0 || sampleCount[item] == 0 ? -1 : sampleSum[item] / sampleCount[item];
+    }
+
+    /**
+     * Predict when the next charge of an item is available.
+     *
+     * @param itemId Skyblock ID of the item
+     * @return Time of the next charge in milliseconds or {@code -1} if the item has all charges or it can't be
+     * predicted yet
+     */
+    public long getNextChargeTime(String itemId) {
+        int item = findItem(itemId);
+        long rechargeMillis = getRechargeMillis(item);
+        if (rechargeMillis < 0 || timerStart[item] < 0) {
+            return -1;
+        }
+        return timerStart[item] + rechargeMillis;
+    }
+
+    /**
+     * Predict when all charges of an item are available again.
+     *
+     * @param itemId Skyblock ID of the item
+     * @return Time all charges are available in milliseconds or {@code -1} if the item has all charges or it can't
+     * be predicted yet
+     */
+    public long getFullChargesTime(String itemId) {
+        long nextChargeTime = getNextChargeTime(itemId);
+        if (nextChargeTime < 0) {
+            return -1;
+        }
+        int item = findItem(itemId);
+        return nextChargeTime + (total[item] - available[item] - 1) * getRechargeMillis(item);
+    }
+
+    /**
+     * @param now Current time in milliseconds
+     * @return Time until the next charge of the {@link #getCurrentItemId() current item} in milliseconds or {@code -1}
+     * if it has all charges or it can't be predicted yet
+     */
+    public long getMillisToNextCharge(long now) {
+        if (currentItem < 0) {
+            return -1;
+        }
+        long nextChargeTime = getNextChargeTime(itemIds[currentItem]);
+        return nextChargeTime < 0 ? -1 : Math.max(nextChargeTime - now, 0);
+    }
+
+    /**
+     * Forgets all items and their recharge times.
+     */
+    public void reset() {
+        Arrays.fill(itemIds, null);
+        Arrays.fill(lastSeen, 0);
+        Arrays.fill(sampleCount, 0);
+        Arrays.fill(nextSample, 0);
+        Arrays.fill(sampleSum, 0);
+        currentItem = -1;
+    }
+}
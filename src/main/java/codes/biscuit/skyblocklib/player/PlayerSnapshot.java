@@ -0,0 +1,129 @@
+package codes.biscuit.skyblocklib.player;
+
+import codes.biscuit.skyblocklib.item.PowerOrbType;
+import codes.biscuit.skyblocklib.model.Skill;
+
+/**
+ * A copy of the player's state at one point in time, filled in by {@link PlayerState#read(PlayerSnapshot)}.
+ * All values belong to the same update, so it's safe to use on other threads than the client thread.
+ * <p>
+ * Snapshots are meant to be reused: create one per reading thread and read into it whenever needed.
+ */
+public class PlayerSnapshot {
+
+    private static final Skill[] SKILLS = Skill.values();
+    private static final PowerOrbType[] POWER_ORB_TYPES = PowerOrbType.values();
+
+    long version;
+
+    int health;
+    int maxHealth;
+    int mana;
+    int maxMana;
+    int defence;
+    int wandHealing;
+
+    int availableCharges = -1;
+    int totalCharges = -1;
+
+    int skill = -1;
+    double skillProgress;
+    double skillMaxProgress;
+    double skillIncrease;
+    long skillTimestamp;
+
+    int powerOrb = -1;
+    int powerOrbSeconds;
+
+    /**
+     * @return Version of the state this snapshot was taken from, higher versions are newer
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public int getHealth() {
+        return health;
+    }
+
+    public int getMaxHealth() {
+        return maxHealth;
+    }
+
+    public int getMana() {
+        return mana;
+    }
+
+    public int getMaxMana() {
+        return maxMana;
+    }
+
+    public int getDefence() {
+        return defence;
+    }
+
+    public int getWandHealing() {
+        return wandHealing;
+    }
+
+    /**
+     * @return Whether the player held an item with charges
+     */
+    public boolean hasCharges() {
+        return totalCharges >= 0;
+    }
+
+    /**
+     * @return Available charges of the held item or {@code -1} if it has none
+     */
+    public int getAvailableCharges() {
+        return availableCharges;
+    }
+
+    /**
+     * @return Total charges of the held item or {@code -1} if it has none
+     */
+    public int getTotalCharges() {
+        return totalCharges;
+    }
+
+    /**
+     * @return Skill of the last skill update or {@code null} if there was none or the skill is unknown
+     */
+    public Skill getSkill() {
+        return skill < 0 ? null : SKILLS[skill];
+    }
+
+    public double getSkillProgress() {
+        return skillProgress;
+    }
+
+    public double getSkillMaxProgress() {
+        return skillMaxProgress;
+    }
+
+    public double getSkillIncrease() {
+        return skillIncrease;
+    }
+
+    /**
+     * @return Time of the last skill update in milliseconds
+     */
+    public long getSkillTimestamp() {
+        return skillTimestamp;
+    }
+
+    /**
+     * @return Type of the active power orb or {@code null} if none is active
+     */
+    public PowerOrbType getPowerOrb() {
+        return powerOrb < 0 ? null : POWER_ORB_TYPES[powerOrb];
+    }
+
+    /**
+     * @return Seconds the active power orb has left
+     */
+    public int getPowerOrbSeconds() {
+        return powerOrbSeconds;
+    }
+}
@@ -0,0 +1,136 @@
+package codes.biscuit.skyblocklib.player;
+
+import codes.biscuit.skyblocklib.item.PowerOrb;
+import codes.biscuit.skyblocklib.model.ItemCharges;
+import codes.biscuit.skyblocklib.model.Skill;
+
+/**
+ * The player's state as published by the client thread for other threads, like render or worker threads.
+ * <p>
+ * The client thread writes the player's values one by one while parsing, so reading them from another thread can
+ * mix old and new values, like a new health with an old maximum health. This state is published at the end of every
+ * client tick instead, and {@link #read(PlayerSnapshot) read} into a {@link PlayerSnapshot} as a whole.
+ * <p>
+ * It works like a sequence lock without the lock: the version is odd while the client thread writes and readers
+ * retry until they read the same even version before and after copying the values. Neither publishing nor reading
+ * allocates anything and readers never block the client thread.
+ */
+public class PlayerState {
+
+    // ----------------------------------
+    // | All fields are volatile, so writes and
+    // | reads can't be reordered around the
+    // | version changes
+    // ----------------------------------
+    private volatile long version;
+
+    private volatile int health;
+    private volatile int maxHealth;
+    private volatile int mana;
+    private volatile int maxMana;
+    private volatile int defence;
+    private volatile int wandHealing;
+
+    private volatile int availableCharges = -1;
+    private volatile int totalCharges = -1;
+
+    private volatile int skill = -1;
+    private volatile double skillProgress;
+    private volatile double skillMaxProgress;
+    private volatile double skillIncrease;
+    private volatile long skillTimestamp;
+
+    private volatile int powerOrb = -1;
+    private volatile int powerOrbSeconds;
+
+    PlayerState() {
+    }
+
+    /**
+     * Publishes the current values of a player. Must only be called from the client thread.
+     * <p>
+     * Only the values of already parsed action bar sections are published. Reading the player's values through its
+     * getters would parse every pending section each tick, which would make parsing on demand pointless.
+     *
+     * @param skyblockPlayer The player
+     */
+    void publish(SkyblockPlayer skyblockPlayer) {
+        Attributes attributes = skyblockPlayer.getAttributes();
+        ItemCharges itemCharges = skyblockPlayer.getParsedItemCharges();
+        SkillTracker skillTracker = skyblockPlayer.getParsedSkillTracker();
+        PowerOrb activePowerOrb = skyblockPlayer.getActivePowerOrb();
+
+        long currentVersion = version;
+        version = currentVersion + 1;
+
+        health = attributes.getParsedValue(Attributes.HEALTH);
+        maxHealth = attributes.getParsedValue(Attributes.MAX_HEALTH);
+        mana = attributes.getParsedValue(Attributes.MANA);
+        maxMana = attributes.getParsedValue(Attributes.MAX_MANA);
+        defence = attributes.getParsedValue(Attributes.DEFENCE);
+        wandHealing = attributes.getParsedValue(Attributes.WAND_HEALING);
+
+        availableCharges = itemCharges == null ? -1 : itemCharges.getAvailable();
+        totalCharges = itemCharges == null ? -1 : itemCharges.getTotal();
+
+        Skill lastSkill = skillTracker.getLastSkill();
+        if (lastSkill != null) {
+            skill = lastSkill.ordinal();
+            skillProgress = skillTracker.getCurrentProgress(lastSkill);
+            skillMaxProgress = skillTracker.getMaxProgress(lastSkill);
+            skillIncrease = skillTracker.getLastIncrease(lastSkill);
+            skillTimestamp = skillTracker.getLastUpdate(lastSkill);
+        }
+
+        powerOrb = activePowerOrb == null ? -1 : activePowerOrb.getPowerOrbType().ordinal();
+        powerOrbSeconds = activePowerOrb == null ? 0 : activePowerOrb.getSeconds();
+
+        version = currentVersion + 2;
+    }
+
+    /**
+     * @return Version of the published state, it changes with every publish
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Copies the published state into a snapshot. Can be called from any thread, it retries while the client thread
+     * is publishing a new state at the same time.
+     *
+     * @param snapshot Snapshot to fill in
+     * @return The snapshot
+     */
+    public PlayerSnapshot read(PlayerSnapshot snapshot) {
+        while (true) {
+            long startVersion = version;
+            if ((startVersion & 1) != 0) {
+                // Currently being written
+                Thread.yield();
+                continue;
+            }
+
+            snapshot.health = health;
+            snapshot.maxHealth = maxHealth;
+            snapshot.mana = mana;
+            snapshot.maxMana = maxMana;
+            snapshot.defence = defence;
+            snapshot.wandHealing = wandHealing;
+            snapshot.availableCharges = availableCharges;
+            snapshot.totalCharges = totalCharges;
+            snapshot.skill = skill;
+            snapshot.skillProgress = skillProgress;
+            snapshot.skillMaxProgress = skillMaxProgress;
+            snapshot.skillIncrease = skillIncrease;
+            snapshot.skillTimestamp = skillTimestamp;
+            snapshot.powerOrb = powerOrb;
+            snapshot.powerOrbSeconds = powerOrbSeconds;
+
+            if (version == startVersion) {
+                snapshot.version = startVersion;
+                return snapshot;
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package codes.biscuit.skyblocklib.player;
+
+import codes.biscuit.skyblocklib.model.Skill;
+
+/**
+ * Tracks the progress of every {@link Skill} separately, from the skill progress messages in the action bar.
+ * <p>
+ * All state is kept in arrays indexed by the skill's ordinal, so updates don't need map lookups or objects per
+ * message. Besides the current progress, the increases of the last {@value #RATE_WINDOW_MINUTES} minutes are kept in a
+ * ring buffer per skill with a running sum, which gives the XP per hour and the time until the next level.
+ */
+public class SkillTracker {
+
+    public static final int RATE_WINDOW_MINUTES = 10;
+    private static final long RATE_WINDOW_MILLIS = RATE_WINDOW_MINUTES * 60 * 1000L;
+    private static final long MILLIS_PER_HOUR = 60 * 60 * 1000L;
+    /**
+     * Increases kept per skill. If more arrive within the window, the oldest ones get dropped early.
+     */
+    private static final int WINDOW_CAPACITY = 256;
+    private static final int SKILL_COUNT = Skill.values().length;
+
+    private final double[] currentProgress = new double[SKILL_COUNT];
+    private final double[] maxProgress = new double[SKILL_COUNT];
+    private final double[] lastIncrease = new double[SKILL_COUNT];
+    private final long[] lastUpdate = new long[SKILL_COUNT];
+
+    private final long[][] increaseTimestamps = new long[SKILL_COUNT][WINDOW_CAPACITY];
+    private final double[][] increases = new double[SKILL_COUNT][WINDOW_CAPACITY];
+    private final int[] windowStart = new int[SKILL_COUNT];
+    private final int[] windowSize = new int[SKILL_COUNT];
+    private final double[] windowSum = new double[SKILL_COUNT];
+
+    private Skill lastSkill;
+    private int updateCount;
+
+    SkillTracker() {
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Records a skill progress message.
+     *
+     * @param skill The progressed skill
+     * @param increase XP that was just earned
+     * @param currentProgress Current XP of that skill
+     * @param maxProgress XP until the next level of that skill
+     * @param timestamp Time of the message in milliseconds
+     * @return Whether this was new progress, and not the same message that is still displayed
+     */
+    public boolean update(Skill skill, double increase, double currentProgress, double maxProgress, long timestamp) {
+        int index = skill.ordinal();
+        if (lastUpdate[index] != 0 && this.currentProgress[index] == currentProgress
+                && this.maxProgress[index] == maxProgress && lastIncrease[index] == increase) {
+            // The message stays in the action bar for a while
+            return false;
+        }
+        this.currentProgress[index] = currentProgress;
+        this.maxProgress[index] = maxProgress;
+        lastIncrease[index] = increase;
+        lastUpdate[index] = timestamp;
+        lastSkill = skill;
+        updateCount++;
+
+        evict(index, timestamp);
+        if (windowSize[index] == WINDOW_CAPACITY) {
+            windowSum[index] -= increases[index][windowStart[index]];
+            windowStart[index] = (windowStart[index] + 1) % WINDOW_CAPACITY;
+            windowSize[index]--;
+        }
+        int sample = (windowStart[index] + windowSize[index]) % WINDOW_CAPACITY;
+        increaseTimestamps[index][sample] = timestamp;
+        increases[index][sample] = increase;
+        windowSize[index]++;
+        windowSum[index] += increase;
+        return true;
+    }
+
+    /**
+     * Removes the increases that are older than the window.
+     */
+    private void evict(int index, long now) {
+        while (windowSize[index] > 0 && increaseTimestamps[index][windowStart[index]] < now - RATE_WINDOW_MILLIS) {
+            windowSum[index] -= increases[index][windowStart[index]];
+            windowStart[index] = (windowStart[index] + 1) % WINDOW_CAPACITY;
+            windowSize[index]--;
+        }
+        if (windowSize[index] == 0) {
+            // Don't let rounding errors pile up
+            windowSum[index] = 0;
+        }
+    }
+
+    /**
+     * @param skill The skill
+     * @return Whether there was a progress message for that skill
+     */
+    public boolean hasProgress(Skill skill) {
+        return lastUpdate[skill.ordinal()] != 0;
+    }
+
+    /**
+     * @param skill The skill
+     * @return The current XP of that skill or {@code 0} if unknown
+     */
+    public double getCurrentProgress(Skill skill) {
+        return currentProgress[skill.ordinal()];
+    }
+
+    /**
+     * @param skill The skill
+     * @return The amount of XP needed to reach the next level or {@code 0} if unknown
+     */
+    public double getMaxProgress(Skill skill) {
+        return maxProgress[skill.ordinal()];
+    }
+
+    /**
+     * @param skill The skill
+     * @return The XP earned with the last progress message of that skill
+     */
+    public double getLastIncrease(Skill skill) {
+        return lastIncrease[skill.ordinal()];
+    }
+
+    /**
+     * @param skill The skill
+     * @return Time of the last progress message of that skill in milliseconds or {@code 0} if there was none
+     */
+    public long getLastUpdate(Skill skill) {
+        return lastUpdate[skill.ordinal()];
+    }
+
+    /**
+     * @return The skill of the last progress message or {@code null} if there was none
+     */
+    public Skill getLastSkill() {
+        return lastSkill;
+    }
+
+    /**
+     * @return Amount of progress messages so far, to check if there were any new ones
+     */
+    public int getUpdateCount() {
+        return updateCount;
+    }
+
+    /**
+     * Get the XP per hour of a skill over the last {@value #RATE_WINDOW_MINUTES} minutes.
+     *
+     * @param skill The skill
+     * @return XP per hour or {@code 0} if there were less than two progress messages
+     */
+    public double getXpPerHour(Skill skill) {
+        return getXpPerHour(skill, System.currentTimeMillis());
+    }
+
+    /**
+     * Get the XP per hour of a skill over the {@value #RATE_WINDOW_MINUTES} minutes before a time.
+     *
+     * @param skill The skill
+     * @param now Current time in milliseconds
+     * @return XP per hour or {@code 0} if there were less than two progress messages
+     */
+    public double getXpPerHour(Skill skill, long now) {
+        int index = skill.ordinal();
+        evict(index, now);
+        if (windowSize[index] < 2) {
+            return 0;
+        }
+        // The XP of the oldest message was earned before the window started to be measured
+        int oldest = windowStart[index];
+        long elapsed = now - increaseTimestamps[index][oldest];
+        if (elapsed <= 0) {
+            return 0;
+        }
+        return (windowSum[index] - increases[index][oldest]) * MILLIS_PER_HOUR / elapsed;
+    }
+
+    /**
+     * Get how long it takes to reach the next level of a skill at the current {@link #getXpPerHour(Skill) rate}.
+     *
+     * @param skill The skill
+     * @return Time until the next level in milliseconds or {@code -1} if the skill isn't being progressed
+     */
+    public long getMillisToNextLevel(Skill skill) {
+        return getMillisToNextLevel(skill, System.currentTimeMillis());
+    }
+
+    /**
+     * Get how long it takes to reach the next level of a skill at the {@link #getXpPerHour(Skill, long) rate} of a time.
+     *
+     * @param skill The skill
+     * @param now Current time in milliseconds
+     * @return Time until the next level in milliseconds or {@code -1} if the skill isn't being progressed
+     */
+    public long getMillisToNextLevel(Skill skill, long now) {
+        double xpPerHour = getXpPerHour(skill, now);
+        if (xpPerHour <= 0) {
+            return -1;
+        }
+        int index = skill.ordinal();
+        double remaining = Math.max(maxProgress[index] - currentProgress[index], 0);
+        return (long) (remaining / xpPerHour * MILLIS_PER_HOUR);
+    }
+}
@@ -4,15 +4,25 @@ import codes.biscuit.skyblocklib.item.PowerOrb;
 import codes.biscuit.skyblocklib.item.PowerOrbType;
 import codes.biscuit.skyblocklib.managers.PowerOrbManager;
 import codes.biscuit.skyblocklib.model.ItemCharges;
+import codes.biscuit.skyblocklib.model.Skill;
 import codes.biscuit.skyblocklib.model.SkillUpdate;
+import codes.biscuit.skyblocklib.parsers.ActionBarParser;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class SkyblockPlayer {
 
-    private final Attributes attributes = new Attributes();
+    private final Attributes attributes = new Attributes(this);
+    private final AttributePredictor attributePredictor = new AttributePredictor(this);
+    private final AttributeHistory attributeHistory = new AttributeHistory(AttributeHistory.DEFAULT_CAPACITY);
+    private final SkillTracker skillTracker = new SkillTracker();
+    private final ChargeTracker chargeTracker = new ChargeTracker();
+    private final PlayerState state = new PlayerState();
+    private volatile boolean statePublished;
     private SkillUpdate lastSkillUpdate;
+    private int lastSkillUpdateCount;
     private ItemCharges currentItemCharges;
+    private ActionBarParser actionBarParser;
 
     /**
      * @return The attributes of a player. This includes their health, defence, and mana.
@@ -22,6 +32,39 @@ public class SkyblockPlayer {
         return attributes;
     }
 
+    /**
+     * Get the predicted health and mana of the player. Unlike the {@link #getAttributes() attributes}, these keep
+     * changing between action bar updates.
+     *
+     * @return The attribute predictor of the player
+     */
+    @NotNull
+    public AttributePredictor getAttributePredictor() {
+        return attributePredictor;
+    }
+
+    /**
+     * Get the past values of the player's attributes, like the health over the last minute.
+     *
+     * @return The attribute history of the player
+     */
+    @NotNull
+    public AttributeHistory getAttributeHistory() {
+        return attributeHistory;
+    }
+
+    /**
+     * Get the state of the player for other threads than the client thread. It's published at the end of every tick
+     * once this was called for the first time, so it doesn't cost anything if nobody needs it.
+     *
+     * @return The published state of the player
+     */
+    @NotNull
+    public PlayerState getState() {
+        statePublished = true;
+        return state;
+    }
+
     /**
      * Get the last skill progress update the player received via the action bar.
      * Notice the {@link SkillUpdate#getTimestamp() timestamp} when this update occurred, as it may get stale.
@@ -31,9 +74,28 @@ public class SkyblockPlayer {
      */
     @Nullable
     public SkillUpdate getLastSkillUpdate() {
+        parsePendingSection(ActionBarParser.SKILL_TRIGGER);
+        if (skillTracker.getUpdateCount() != lastSkillUpdateCount) {
+            // Only built when it's asked for, the tracker already has all values
+            Skill skill = skillTracker.getLastSkill();
+            lastSkillUpdate = new SkillUpdate(skill, skillTracker.getCurrentProgress(skill),
+                    skillTracker.getMaxProgress(skill), skillTracker.getLastIncrease(skill), skillTracker.getLastUpdate(skill));
+            lastSkillUpdateCount = skillTracker.getUpdateCount();
+        }
         return lastSkillUpdate;
     }
 
+    /**
+     * Get the progress of every skill, with the XP per hour and the time until the next level.
+     *
+     * @return The skill tracker of the player
+     */
+    @NotNull
+    public SkillTracker getSkillTracker() {
+        parsePendingSection(ActionBarParser.SKILL_TRIGGER);
+        return skillTracker;
+    }
+
     /**
      * Get the item charges if the player currently holds an item that has such charges, like the Zombie Sword,
      * Ornate Zombie Sword or Scorpion Foil (Scorpion Foil calls them tickers).
@@ -43,9 +105,21 @@ public class SkyblockPlayer {
      */
     @Nullable
     public ItemCharges getCurrentItemCharges() {
+        parsePendingSection(ActionBarParser.CHARGES_TRIGGER);
         return currentItemCharges;
     }
 
+    /**
+     * Get the recharge times of items with charges and when their next charge is available.
+     *
+     * @return The charge tracker of the player
+     */
+    @NotNull
+    public ChargeTracker getChargeTracker() {
+        parsePendingSection(ActionBarParser.CHARGES_TRIGGER);
+        return chargeTracker;
+    }
+
     /**
      * Skyblock health attribute - not vanilla! Default for new profiles is 100.
      *
@@ -118,12 +192,14 @@ public class SkyblockPlayer {
 
     /**
      * <h3>This should not be used outside SkyblockLib!</h3>
-     * Set the last skill progress update.
+     * Set the last skill progress update. Updates of known skills are recorded by the {@link #getSkillTracker() skill
+     * tracker} instead, this is only needed for skills that SkyblockLib doesn't know yet.
      *
      * @param lastSkillUpdate The skill update
      */
     public void setLastSkillUpdate(SkillUpdate lastSkillUpdate) {
         this.lastSkillUpdate = lastSkillUpdate;
+        lastSkillUpdateCount = skillTracker.getUpdateCount();
     }
 
     /**
@@ -135,4 +211,58 @@ public class SkyblockPlayer {
     public void setCurrentItemCharges(ItemCharges currentItemCharges) {
         this.currentItemCharges = currentItemCharges;
     }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Set the action bar parser that fills in this player's information. Values read from the player get parsed
+     * from the last action bar by this parser on demand.
+     *
+     * @param actionBarParser The action bar parser
+     */
+    public void setActionBarParser(ActionBarParser actionBarParser) {
+        this.actionBarParser = actionBarParser;
+        attributeHistory.setActionBarParser(actionBarParser);
+        chargeTracker.setActionBarParser(actionBarParser);
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Publishes the current {@link #getState() state} of the player, if anyone uses it. Only values that were already
+     * parsed are published, sections that nothing subscribed to stay pending.
+     */
+    public void publishState() {
+        if (statePublished) {
+            state.publish(this);
+        }
+    }
+
+    /**
+     * @return The item charges as of the last parsed charges section, without parsing a pending one
+     */
+    ItemCharges getParsedItemCharges() {
+        return currentItemCharges;
+    }
+
+    /**
+     * @return The skill tracker as of the last parsed skill section, without parsing a pending one
+     */
+    SkillTracker getParsedSkillTracker() {
+        return skillTracker;
+    }
+
+    ActionBarParser getActionBarParser() {
+        return actionBarParser;
+    }
+
+    /**
+     * Parses the action bar section of a type if it hasn't been parsed yet, see
+     * {@link ActionBarParser#parsePendingSection(char)}.
+     *
+     * @param trigger Trigger glyph of the section type
+     */
+    void parsePendingSection(char trigger) {
+        if (actionBarParser != null) {
+            actionBarParser.parsePendingSection(trigger);
+        }
+    }
 }
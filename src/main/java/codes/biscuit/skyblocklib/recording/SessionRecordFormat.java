@@ -0,0 +1,54 @@
+package codes.biscuit.skyblocklib.recording;
+
+/**
+ * Layout of the files written by the {@link SessionRecorder}. All values are little endian.
+ *
+ * <h3>Header</h3>
+ * <table summary="File header">
+ * <tr><th>Offset</th><th>Type</th><th>Value</th></tr>
+ * <tr><td>0</td><td>int</td><td>{@link #MAGIC}, the bytes {@code SBLR}</td></tr>
+ * <tr><td>4</td><td>int</td><td>{@link #FORMAT_VERSION}, changes when the layout changes</td></tr>
+ * <tr><td>8</td><td>int</td><td>Index of the file in the session, starting at 0</td></tr>
+ * <tr><td>12</td><td>int</td><td>Reserved</td></tr>
+ * </table>
+ *
+ * <h3>Records</h3>
+ * The header is followed by records, which all start with a byte for their type, an int for the tick number and a
+ * long for the time in milliseconds since the epoch. The rest depends on the type:
+ * <ul>
+ * <li>{@link #TICK}: nothing, written at the start of every tick</li>
+ * <li>{@link #ACTION_BAR}: the raw action bar as string</li>
+ * <li>{@link #CHAT}: the formatted chat message as string</li>
+ * <li>{@link #SCOREBOARD}: the sidebar objective's display name as string, an int for the amount of lines and every
+ * line as string. Only written when it changed.</li>
+ * </ul>
+ * Strings are an int for their length in bytes followed by their chars in modified UTF-8, like
+ * {@link java.io.DataOutput#writeUTF(String)} writes them.
+ * <p>
+ * Files are created with their full size up front, so the records end at the first {@link #END} type byte or the
+ * end of the file.
+ */
+public final class SessionRecordFormat {
+
+    public static final int MAGIC = 'S' | 'B' << 8 | 'L' << 16 | 'R' << 24;
+    public static final int FORMAT_VERSION = 1;
+    public static final int HEADER_SIZE = 16;
+    /**
+     * Type, tick and timestamp
+     */
+    public static final int RECORD_HEADER_SIZE = 13;
+
+    public static final int MAGIC_OFFSET = 0;
+    public static final int FORMAT_VERSION_OFFSET = 4;
+    public static final int FILE_INDEX_OFFSET = 8;
+
+    public static final byte END = 0;
+    public static final byte TICK = 1;
+    public static final byte ACTION_BAR = 2;
+    public static final byte CHAT = 3;
+    public static final byte SCOREBOARD = 4;
+
+    public static final String FILE_EXTENSION = ".sblr";
+
+    private SessionRecordFormat() {}
+}
@@ -0,0 +1,161 @@
+package codes.biscuit.skyblocklib.recording;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UTFDataFormatException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static codes.biscuit.skyblocklib.recording.SessionRecordFormat.*;
+
+/**
+ * Reads the records of a file written by the {@link SessionRecorder}, one after another:
+ * <pre>{@code
+ * SessionRecordReader reader = new SessionRecordReader(file);
+ * while (reader.next()) {
+ *     if (reader.getType() == SessionRecordFormat.ACTION_BAR) {
+ *         System.out.println(reader.getText());
+ *     }
+ * }
+ * }</pre>
+ */
+public class SessionRecordReader {
+
+    private final MappedByteBuffer buffer;
+    private final int fileIndex;
+
+    private byte type = END;
+    private int tick;
+    private long timestamp;
+    private String text;
+    private List<String> lines = Collections.emptyList();
+    private char[] chars = new char[256];
+
+    /**
+     * @param file File written by the recorder
+     * @throws IOException If the file can't be mapped or isn't a session recording
+     */
+    public SessionRecordReader(File file) throws IOException {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+            if (randomAccessFile.length() < HEADER_SIZE) {
+                throw new IOException("The file is too short to be a session recording");
+            }
+            buffer = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, randomAccessFile.length());
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.getInt(MAGIC_OFFSET) != MAGIC) {
+            throw new IOException("The file is not a session recording");
+        }
+        if (buffer.getInt(FORMAT_VERSION_OFFSET) != FORMAT_VERSION) {
+            throw new IOException("Unsupported format version " + buffer.getInt(FORMAT_VERSION_OFFSET));
+        }
+        fileIndex = buffer.getInt(FILE_INDEX_OFFSET);
+        buffer.position(HEADER_SIZE);
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return Whether there was another record
+     * @throws IOException If the record is malformed
+     */
+    public boolean next() throws IOException {
+        if (!buffer.hasRemaining() || buffer.get(buffer.position()) == END) {
+            type = END;
+            return false;
+        }
+        type = buffer.get();
+        tick = buffer.getInt();
+        timestamp = buffer.getLong();
+        text = null;
+        lines = Collections.emptyList();
+        switch (type) {
+            case TICK:
+                break;
+            case ACTION_BAR:
+            case CHAT:
+                text = getString();
+                break;
+            case SCOREBOARD:
+                text = getString();
+                int lineCount = buffer.getInt();
+                lines = new ArrayList<>(lineCount);
+                for (int i = 0; i < lineCount; i++) {
+                    lines.add(getString());
+                }
+                break;
+            default:
+                throw new IOException("Unknown record type " + type + " at " + (buffer.position() - RECORD_HEADER_SIZE));
+        }
+        return true;
+    }
+
+    private String getString() throws IOException {
+        int end = buffer.getInt();
+        end += buffer.position();
+        if (chars.length < end - buffer.position()) {
+            chars = new char[end - buffer.position()];
+        }
+        int length = 0;
+        while (buffer.position() < end) {
+            int first = buffer.get() & 0xFF;
+            if (first < 0x80) {
+                chars[length++] = (char) first;
+            } else if ((first & 0xE0) == 0xC0) {
+                chars[length++] = (char) ((first & 0x1F) << 6 | buffer.get() & 0x3F);
+            } else if ((first & 0xF0) == 0xE0) {
+                chars[length++] = (char) ((first & 0x0F) << 12 | (buffer.get() & 0x3F) << 6 | buffer.get() & 0x3F);
+            } else {
+                throw new UTFDataFormatException("Malformed string at " + buffer.position());
+            }
+        }
+        return new String(chars, 0, length);
+    }
+
+    /**
+     * @return Index of this file in its session, starting at 0
+     */
+    public int getFileIndex() {
+        return fileIndex;
+    }
+
+    /**
+     * @return Type of the current record, like {@link SessionRecordFormat#ACTION_BAR}
+     */
+    public byte getType() {
+        return type;
+    }
+
+    /**
+     * @return Number of the tick the current record was written in
+     */
+    public int getTick() {
+        return tick;
+    }
+
+    /**
+     * @return Time the current record was written in milliseconds since the epoch
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return Action bar or chat message of the current record, or the scoreboard's title
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @return Lines of the current scoreboard record, empty for other records
+     */
+    public List<String> getLines() {
+        return lines;
+    }
+}
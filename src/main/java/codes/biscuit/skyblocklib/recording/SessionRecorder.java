@@ -0,0 +1,307 @@
+package codes.biscuit.skyblocklib.recording;
+
+import codes.biscuit.skyblocklib.utils.SBLLog;
+import com.google.common.base.Preconditions;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import static codes.biscuit.skyblocklib.recording.SessionRecordFormat.*;
+
+/**
+ * Records the raw inputs SkyblockLib parses, the action bars, chat messages and scoreboard lines, into binary log
+ * files, so parsing problems of real sessions can be reproduced. The layout of the files is described in
+ * {@link SessionRecordFormat} and they can be read with the {@link SessionRecordReader}.
+ * <p>
+ * Recording is off until it is {@link #start(File) started}. Records are written into memory-mapped files, so
+ * recording one is only a few memory writes and never waits for the disk. Once a file is full, the recording
+ * continues in the next one, which was already created and mapped on a background thread. If that isn't ready in
+ * time, records are {@link #getDroppedRecords() dropped} until it is.
+ */
+public class SessionRecorder {
+
+    public static final long DEFAULT_MAX_FILE_SIZE = 16 * 1024 * 1024;
+    public static final long MIN_MAX_FILE_SIZE = 1024;
+
+    /**
+     * Creates and maps the next files, only started once it is needed
+     */
+    private Executor executor;
+    private long maxFileSize = DEFAULT_MAX_FILE_SIZE;
+
+    private File directory;
+    private String sessionName;
+    private int fileIndex;
+    private MappedByteBuffer buffer;
+    /**
+     * The next file, mapped on the background thread
+     */
+    private volatile MappedByteBuffer nextBuffer;
+    private boolean preparingNextBuffer;
+    /**
+     * Changes with every session, so files mapped for a stopped session aren't used
+     */
+    private int session;
+
+    private int tick;
+    private long recordCount;
+    private long droppedRecords;
+
+    private String lastScoreboardTitle;
+    private final List<String> lastScoreboardLines = new ArrayList<>();
+
+    public SessionRecorder() {
+    }
+
+    SessionRecorder(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Set the size after which the recording continues in a new file. Only affects files created after this.
+     *
+     * @param maxFileSize Size in bytes, at least {@value #MIN_MAX_FILE_SIZE}
+     */
+    public void setMaxFileSize(long maxFileSize) {
+        Preconditions.checkArgument(maxFileSize >= MIN_MAX_FILE_SIZE && maxFileSize <= Integer.MAX_VALUE,
+                "The max file size must be between %s and %s", MIN_MAX_FILE_SIZE, Integer.MAX_VALUE);
+        this.maxFileSize = maxFileSize;
+    }
+
+    /**
+     * Starts recording into a new session in a directory. Its files are named after the time the session started.
+     * If the recorder was already started, the previous session is stopped.
+     *
+     * @param directory Directory to create the files in, it is created if it doesn't exist
+     * @throws IOException If the first file can't be created or mapped
+     */
+    public void start(File directory) throws IOException {
+        Preconditions.checkArgument(directory != null, "The directory must not be null");
+        stop();
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Couldn't create the directory " + directory);
+        }
+        this.directory = directory;
+        sessionName = "session-" + System.currentTimeMillis();
+        fileIndex = 0;
+        buffer = mapFile(getFile(0), 0, maxFileSize);
+        SBLLog.info("Recording the session to %s", getFile(0));
+    }
+
+    /**
+     * Stops recording. The files are left as they are, possibly including an empty next file.
+     */
+    public void stop() {
+        synchronized (this) {
+            session++;
+            nextBuffer = null;
+        }
+        buffer = null;
+        preparingNextBuffer = false;
+        lastScoreboardTitle = null;
+        lastScoreboardLines.clear();
+    }
+
+    /**
+     * @return Whether the recorder is writing into files
+     */
+    public boolean isStarted() {
+        return buffer != null;
+    }
+
+    /**
+     * @return Amount of records written since the recorder was created
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * @return Amount of records that were lost because the next file wasn't ready in time
+     */
+    public long getDroppedRecords() {
+        return droppedRecords;
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Starts the next tick. Records are written with the number of the current tick.
+     */
+    public void tick() {
+        tick++;
+        if (buffer != null && beginRecord(TICK, 0)) {
+            recordCount++;
+        }
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     *
+     * @param actionBar The raw action bar
+     */
+    public void recordActionBar(String actionBar) {
+        recordString(ACTION_BAR, actionBar);
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     *
+     * @param message The formatted chat message
+     */
+    public void recordChat(String message) {
+        recordString(CHAT, message);
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Records the scoreboard if it changed since it was recorded last.
+     *
+     * @param title Display name of the sidebar objective
+     * @param lines Lines of the sidebar
+     */
+    public void recordScoreboard(String title, List<String> lines) {
+        if (buffer == null || (title.equals(lastScoreboardTitle) && lines.equals(lastScoreboardLines))) {
+            return;
+        }
+        int maxSize = 4 + getMaxStringSize(title);
+        for (String line : lines) {
+            maxSize += getMaxStringSize(line);
+        }
+        if (beginRecord(SCOREBOARD, maxSize)) {
+            putString(title);
+            buffer.putInt(lines.size());
+            for (String line : lines) {
+                putString(line);
+            }
+            recordCount++;
+            lastScoreboardTitle = title;
+            lastScoreboardLines.clear();
+            lastScoreboardLines.addAll(lines);
+        }
+    }
+
+    private void recordString(byte type, String text) {
+        if (buffer != null && beginRecord(type, getMaxStringSize(text))) {
+            putString(text);
+            recordCount++;
+        }
+    }
+
+    /**
+     * Writes the header of a record, switching to the next file if it doesn't fit into the current one.
+     *
+     * @param type Type of the record
+     * @param maxSize Maximum size of the rest of the record
+     * @return Whether the record can be written
+     */
+    private boolean beginRecord(byte type, int maxSize) {
+        int recordSize = RECORD_HEADER_SIZE + maxSize;
+        if (buffer.remaining() < recordSize) {
+            MappedByteBuffer next = nextBuffer;
+            if (next == null || next.remaining() < recordSize) {
+                droppedRecords++;
+                prepareNextBuffer();
+                return false;
+            }
+            buffer = next;
+            nextBuffer = null;
+            preparingNextBuffer = false;
+            fileIndex++;
+        }
+        if (buffer.position() > buffer.capacity() / 4 * 3) {
+            prepareNextBuffer();
+        }
+        buffer.put(type);
+        buffer.putInt(tick);
+        buffer.putLong(System.currentTimeMillis());
+        return true;
+    }
+
+    /**
+     * Creates and maps the next file on the background thread, if that didn't happen yet.
+     */
+    private void prepareNextBuffer() {
+        if (preparingNextBuffer) {
+            return;
+        }
+        preparingNextBuffer = true;
+        int index = fileIndex + 1;
+        File file = getFile(index);
+        long size = maxFileSize;
+        int session = this.session;
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "SkyblockLib Session Recorder");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        executor.execute(() -> {
+            try {
+                MappedByteBuffer mappedBuffer = mapFile(file, index, size);
+                synchronized (this) {
+                    if (this.session == session) {
+                        nextBuffer = mappedBuffer;
+                    }
+                }
+            } catch (IOException ex) {
+                SBLLog.warning("Couldn't create the session recording file %s: %s", file, ex);
+            }
+        });
+    }
+
+    private File getFile(int index) {
+        return new File(directory, String.format("%s-%03d%s", sessionName, index, FILE_EXTENSION));
+    }
+
+    private static MappedByteBuffer mapFile(File file, int index, long size) throws IOException {
+        MappedByteBuffer buffer;
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.setLength(size);
+            // The mapping stays valid after the channel is closed
+            buffer = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC_OFFSET, MAGIC);
+        buffer.putInt(FORMAT_VERSION_OFFSET, FORMAT_VERSION);
+        buffer.putInt(FILE_INDEX_OFFSET, index);
+        buffer.position(HEADER_SIZE);
+        // Leave space for the end marker
+        buffer.limit(buffer.capacity() - 1);
+        return buffer;
+    }
+
+    private static int getMaxStringSize(String text) {
+        return 4 + text.length() * 3;
+    }
+
+    /**
+     * Writes a string in modified UTF-8 without allocating a byte array for it.
+     */
+    private void putString(String text) {
+        int lengthPosition = buffer.position();
+        buffer.position(lengthPosition + 4);
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+            if (character != 0 && character < 0x80) {
+                buffer.put((byte) character);
+            } else if (character < 0x800) {
+                buffer.put((byte) (0xC0 | character >> 6));
+                buffer.put((byte) (0x80 | character & 0x3F));
+            } else {
+                buffer.put((byte) (0xE0 | character >> 12));
+                buffer.put((byte) (0x80 | character >> 6 & 0x3F));
+                buffer.put((byte) (0x80 | character & 0x3F));
+            }
+        }
+        buffer.putInt(lengthPosition, buffer.position() - lengthPosition - 4);
+    }
+}
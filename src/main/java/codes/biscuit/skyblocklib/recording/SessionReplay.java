@@ -0,0 +1,337 @@
+package codes.biscuit.skyblocklib.recording;
+
+import codes.biscuit.skyblocklib.SkyblockLib;
+import codes.biscuit.skyblocklib.event.AttributesUpdateEvent;
+import codes.biscuit.skyblocklib.event.SkyblockAbilityEvent;
+import codes.biscuit.skyblocklib.event.SkyblockJoinedEvent;
+import codes.biscuit.skyblocklib.event.SkyblockLeftEvent;
+import codes.biscuit.skyblocklib.event.SkyblockScoreboardUpdateEvent;
+import codes.biscuit.skyblocklib.event.SkyblockTimeUpdateEvent;
+import codes.biscuit.skyblocklib.listener.ChatListener;
+import codes.biscuit.skyblocklib.managers.ItemAbilityFile;
+import codes.biscuit.skyblocklib.parsers.ActionBarParser;
+import codes.biscuit.skyblocklib.parsers.ScoreboardParser;
+import codes.biscuit.skyblocklib.player.SkyblockPlayer;
+import codes.biscuit.skyblocklib.scoreboard.SidebarModel;
+import codes.biscuit.skyblocklib.scoreboard.SkyblockScoreboard;
+import codes.biscuit.skyblocklib.skyblock.Skyblock;
+import net.minecraftforge.fml.common.eventhandler.Event;
+import net.minecraftforge.fml.common.eventhandler.EventBus;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Feeds recorded sessions from the {@link SessionRecorder} through the action bar, chat and scoreboard parsing as fast
+ * as possible, without a Minecraft client. It measures the throughput and allocations of the parsing and keeps every
+ * fired event.
+ * <p>
+ * The {@link #writeEventLog(Writer) event log} only contains the ticks and the events, so it can be compared with the
+ * log of a previous version to check that parser changes don't change the results:
+ * <p>{@code java codes.biscuit.skyblocklib.recording.SessionReplay <recording files or directories> [-o events.txt]}</p>
+ * The records are read into memory before they are replayed, so reading the files isn't measured. Time based
+ * predictions like the {@link codes.biscuit.skyblocklib.player.AttributePredictor} aren't replayed, but the messages are
+ * parsed at their recorded times, so the history and trackers see the same times as while playing.
+ */
+public class SessionReplay {
+
+    private static final String[] ATTRIBUTE_NAMES = {"defence", "health", "maxHealth", "mana", "maxMana", "wandHealing"};
+
+    private final Skyblock skyblock;
+    private final ActionBarParser actionBarParser;
+    private final ScoreboardParser scoreboardParser;
+    private final SidebarModel sidebarModel;
+    private final ChatListener chatListener;
+
+    private byte[] types = new byte[1024];
+    private int[] ticks = new int[1024];
+    private long[] timestamps = new long[1024];
+    private String[] texts = new String[1024];
+    private List<List<String>> lines = new ArrayList<>();
+    private int recordCount;
+
+    private final List<Event> events = new ArrayList<>();
+    private int[] eventRecords = new int[256];
+    private int currentRecord;
+
+    private int messageCount;
+    private long elapsedNanos;
+    private long allocatedBytes = -1;
+
+    /**
+     * Creates a separate SkyblockLib instance with its own Skyblock state and player, whose parsers fire their events
+     * into this replay. Nothing of the global instance is used or changed. The attribute history, the trackers and the
+     * attribute events are all enabled, so every action bar section is parsed on each update.
+     *
+     * @param itemAbilityFile The item abilities to recognize
+     */
+    public SessionReplay(ItemAbilityFile itemAbilityFile) {
+        EventBus eventBus = new EventBus() {
+            @Override
+            public boolean post(Event event) {
+                onEvent(event);
+                return super.post(event);
+            }
+        };
+        skyblock = new Skyblock();
+        SkyblockPlayer skyblockPlayer = new SkyblockPlayer();
+        SkyblockLib skyblockLib = new SkyblockLib(itemAbilityFile, skyblock, skyblockPlayer, eventBus);
+        actionBarParser = skyblockLib.getActionBarParser();
+        actionBarParser.subscribeAttributes();
+        skyblockPlayer.getAttributeHistory().setEnabled(true);
+        skyblockPlayer.getChargeTracker().setEnabled(true);
+        skyblockLib.getSessionStatistics().setEnabled(true);
+        skyblockLib.getCooldownManager().setEnabled(true);
+        scoreboardParser = skyblockLib.getScoreboardParser();
+        sidebarModel = skyblockLib.getSidebarModel();
+        chatListener = new ChatListener(skyblockLib, eventBus);
+    }
+
+    /**
+     * Reads all records of a recording file into memory. Files of a session have to be loaded in order.
+     *
+     * @param file File written by the recorder
+     * @throws IOException If the file can't be read
+     */
+    public void load(File file) throws IOException {
+        SessionRecordReader reader = new SessionRecordReader(file);
+        while (reader.next()) {
+            if (recordCount == types.length) {
+                types = Arrays.copyOf(types, recordCount * 2);
+                ticks = Arrays.copyOf(ticks, recordCount * 2);
+                timestamps = Arrays.copyOf(timestamps, recordCount * 2);
+                texts = Arrays.copyOf(texts, recordCount * 2);
+            }
+            types[recordCount] = reader.getType();
+            ticks[recordCount] = reader.getTick();
+            timestamps[recordCount] = reader.getTimestamp();
+            texts[recordCount] = reader.getText();
+            lines.add(reader.getLines());
+            recordCount++;
+        }
+    }
+
+    /**
+     * @return Amount of loaded records, including ticks
+     */
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Replays all loaded records, in the same way the listeners handle them while playing.
+     */
+    public void run() {
+        events.clear();
+        messageCount = 0;
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long startAllocatedBytes = getAllocatedBytes(threadMXBean, threadId);
+        long start = System.nanoTime();
+
+        for (currentRecord = 0; currentRecord < recordCount; currentRecord++) {
+            switch (types[currentRecord]) {
+                case SessionRecordFormat.ACTION_BAR:
+                    if (skyblock.isOnSkyblock()) {
+                        actionBarParser.parseActionBar(texts[currentRecord], timestamps[currentRecord]);
+                    }
+                    messageCount++;
+                    break;
+                case SessionRecordFormat.CHAT:
+                    if (skyblock.isOnSkyblock()) {
+                        chatListener.parseChatMessage(texts[currentRecord], timestamps[currentRecord]);
+                    }
+                    messageCount++;
+                    break;
+                case SessionRecordFormat.SCOREBOARD:
+                    replayScoreboard(texts[currentRecord], lines.get(currentRecord));
+                    messageCount++;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        elapsedNanos = System.nanoTime() - start;
+        long endAllocatedBytes = getAllocatedBytes(threadMXBean, threadId);
+        allocatedBytes = startAllocatedBytes < 0 || endAllocatedBytes < 0 ? -1 : endAllocatedBytes - startAllocatedBytes;
+    }
+
+    /**
+     * Does what the tick listener does with the sidebar, the recorded sidebar takes the place of the packets.
+     */
+    private void replayScoreboard(String title, List<String> scoreboardLines) {
+        sidebarModel.replay(title, scoreboardLines);
+        if (sidebarModel.update()) {
+            scoreboardParser.parseSidebar(sidebarModel);
+        } else {
+            scoreboardParser.skipSidebar();
+        }
+    }
+
+    private void onEvent(Event event) {
+        // The Skyblock listener doesn't listen to this replay's events, so joining and leaving is set here
+        if (event instanceof SkyblockJoinedEvent) {
+            skyblock.setOnSkyblock(true);
+        } else if (event instanceof SkyblockLeftEvent) {
+            skyblock.setOnSkyblock(false);
+        }
+        if (events.size() == eventRecords.length) {
+            eventRecords = Arrays.copyOf(eventRecords, events.size() * 2);
+        }
+        eventRecords[events.size()] = currentRecord;
+        events.add(event);
+    }
+
+    private static long getAllocatedBytes(ThreadMXBean threadMXBean, long threadId) {
+        // Only available on HotSpot based JVMs
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean hotSpotThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+            if (hotSpotThreadMXBean.isThreadAllocatedMemorySupported() && hotSpotThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+                return hotSpotThreadMXBean.getThreadAllocatedBytes(threadId);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return Events fired during the last run, in order
+     */
+    public List<Event> getEvents() {
+        return events;
+    }
+
+    /**
+     * @return Action bars, chat messages and scoreboards replayed in the last run
+     */
+    public int getMessageCount() {
+        return messageCount;
+    }
+
+    /**
+     * @return Duration of the last run in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return Messages replayed per second in the last run
+     */
+    public double getMessagesPerSecond() {
+        return elapsedNanos <= 0 ? 0 : messageCount * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * @return Bytes allocated per message in the last run, including the events, or {@code -1} if the JVM can't
+     * measure allocations
+     */
+    public double getAllocatedBytesPerMessage() {
+        return allocatedBytes < 0 || messageCount == 0 ? -1 : (double) allocatedBytes / messageCount;
+    }
+
+    /**
+     * Writes the fired events one per line, with the tick they were fired in. The log doesn't contain any times, so
+     * runs of the same recording can be compared line by line.
+     *
+     * @param writer Writer for the log, it isn't closed
+     */
+    public void writeEventLog(Writer writer) {
+        PrintWriter printWriter = new PrintWriter(writer);
+        for (int i = 0; i < events.size(); i++) {
+            printWriter.printf("%d %s%n", ticks[eventRecords[i]], describe(events.get(i)));
+        }
+        printWriter.flush();
+    }
+
+    /**
+     * @return The measurements of the last run
+     */
+    public String getSummary() {
+        return String.format("%d records, %d messages, %d events in %.1f ms: %.0f messages/s, %.1f bytes/message",
+                recordCount, messageCount, events.size(), elapsedNanos / 1e6, getMessagesPerSecond(),
+                getAllocatedBytesPerMessage());
+    }
+
+    private static String describe(Event event) {
+        StringBuilder description = new StringBuilder(event.getClass().getSimpleName());
+        if (event instanceof SkyblockAbilityEvent) {
+            description.append(' ').append(((SkyblockAbilityEvent) event).getAbility().getName());
+        } else if (event instanceof SkyblockTimeUpdateEvent) {
+            description.append(' ').append(((SkyblockTimeUpdateEvent) event).getNewTime());
+        } else if (event instanceof AttributesUpdateEvent) {
+            AttributesUpdateEvent updateEvent = (AttributesUpdateEvent) event;
+            for (int i = 0; i < ATTRIBUTE_NAMES.length; i++) {
+                if (updateEvent.hasChanged(1 << i)) {
+                    description.append(' ').append(ATTRIBUTE_NAMES[i]).append('=')
+                            .append(updateEvent.getOldValue(1 << i)).append("->").append(updateEvent.getNewValue(1 << i));
+                }
+            }
+        } else if (event instanceof SkyblockScoreboardUpdateEvent) {
+            SkyblockScoreboardUpdateEvent updateEvent = (SkyblockScoreboardUpdateEvent) event;
+            SkyblockScoreboard scoreboard = updateEvent.getScoreboard();
+            if (updateEvent.hasChanged(SkyblockScoreboard.PURSE)) {
+                description.append(" purse=").append(scoreboard.getPurse());
+            }
+            if (updateEvent.hasChanged(SkyblockScoreboard.BITS)) {
+                description.append(" bits=").append(scoreboard.getBits());
+            }
+            if (updateEvent.hasChanged(SkyblockScoreboard.LOCATION)) {
+                description.append(" location=").append(scoreboard.getLocation());
+            }
+            if (updateEvent.hasChanged(SkyblockScoreboard.OBJECTIVE)) {
+                description.append(" objective=").append(scoreboard.getObjective());
+            }
+            if (updateEvent.hasChanged(SkyblockScoreboard.SERVER)) {
+                description.append(" server=").append(scoreboard.getServer());
+            }
+        }
+        return description.toString();
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<File> files = new ArrayList<>();
+        File eventLog = null;
+        for (int i = 0; i < args.length; i++) {
+            if ("-o".equals(args[i]) && i + 1 < args.length) {
+                eventLog = new File(args[++i]);
+            } else {
+                File file = new File(args[i]);
+                File[] directoryFiles = file.listFiles((directory, name) -> name.endsWith(SessionRecordFormat.FILE_EXTENSION));
+                if (directoryFiles != null) {
+                    // File names start with the session and end with the file's index in it
+                    Arrays.sort(directoryFiles);
+                    files.addAll(Arrays.asList(directoryFiles));
+                } else {
+                    files.add(file);
+                }
+            }
+        }
+        if (files.isEmpty()) {
+            System.err.println("Usage: SessionReplay <recording files or directories> [-o events.txt]");
+            System.exit(1);
+        }
+
+        SessionReplay replay = new SessionReplay(ItemAbilityFile.fromFile());
+        for (File file : files) {
+            replay.load(file);
+        }
+        replay.run();
+        System.out.println(replay.getSummary());
+        if (eventLog != null) {
+            try (Writer writer = new OutputStreamWriter(new FileOutputStream(eventLog), StandardCharsets.UTF_8)) {
+                replay.writeEventLog(writer);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package codes.biscuit.skyblocklib.scoreboard;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import net.minecraft.network.play.server.S01PacketJoinGame;
+import net.minecraft.network.play.server.S07PacketRespawn;
+import net.minecraft.network.play.server.S3BPacketScoreboardObjective;
+import net.minecraft.network.play.server.S3CPacketUpdateScore;
+import net.minecraft.network.play.server.S3DPacketDisplayScoreboard;
+import net.minecraft.network.play.server.S3EPacketTeams;
+
+/**
+ * Sits in the connection's netty pipeline in front of Minecraft's packet handler and passes the scoreboard packets,
+ * and the packets that replace the world's scoreboard, to the {@link SidebarModel}. All packets are passed on
+ * unchanged.
+ */
+public class ScoreboardPacketHandler extends ChannelInboundHandlerAdapter {
+
+    /**
+     * Name of Minecraft's packet handler in the pipeline
+     */
+    public static final String PACKET_HANDLER = "packet_handler";
+    public static final String NAME = "skyblocklib_scoreboard";
+
+    private final SidebarModel sidebarModel;
+
+    public ScoreboardPacketHandler(SidebarModel sidebarModel) {
+        this.sidebarModel = sidebarModel;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (msg instanceof S3EPacketTeams || msg instanceof S3CPacketUpdateScore || msg instanceof S3BPacketScoreboardObjective
+                || msg instanceof S3DPacketDisplayScoreboard || msg instanceof S07PacketRespawn || msg instanceof S01PacketJoinGame) {
+            sidebarModel.enqueue(msg);
+        }
+        super.channelRead(ctx, msg);
+    }
+}
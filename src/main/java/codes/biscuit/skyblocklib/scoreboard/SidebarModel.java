@@ -0,0 +1,428 @@
+package codes.biscuit.skyblocklib.scoreboard;
+
+import net.minecraft.network.play.server.S01PacketJoinGame;
+import net.minecraft.network.play.server.S07PacketRespawn;
+import net.minecraft.network.play.server.S3BPacketScoreboardObjective;
+import net.minecraft.network.play.server.S3CPacketUpdateScore;
+import net.minecraft.network.play.server.S3DPacketDisplayScoreboard;
+import net.minecraft.network.play.server.S3EPacketTeams;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiConsumer;
+
+/**
+ * The sidebar of the scoreboard, built from the scoreboard packets the server sends instead of reading the world's
+ * scoreboard every tick.
+ * <p>
+ * The {@link ScoreboardPacketHandler} queues the objective (S3B), score (S3C), display (S3D) and team (S3E) packets
+ * on the network thread. They are applied on the client thread by {@link #update()}, which rebuilds the lines only if
+ * a packet touched the sidebar. The lines are kept in a fixed array of {@value #MAX_LINES} and every line that is
+ * different from before is marked as {@link #isLineChanged(int) changed}.
+ * <p>
+ * Rebuilding doesn't allocate anything once the sidebar's players are known: scores are sorted into reused arrays, and
+ * the formatted line of every player is cached along with the team prefix and suffix it was built from, so a line is
+ * only concatenated again when one of those changes.
+ * <p>
+ * Lines are ordered like {@link net.minecraft.scoreboard.Scoreboard#getSortedScores(net.minecraft.scoreboard.ScoreObjective)},
+ * from the lowest to the highest score, so the first line is the bottom line of the sidebar.
+ */
+public class SidebarModel {
+
+    public static final int MAX_LINES = 15;
+    private static final int SIDEBAR_SLOT = 1;
+
+    private static final int OBJECTIVE_REMOVE = 1;
+
+    private static final int TEAM_CREATE = 0;
+    private static final int TEAM_REMOVE = 1;
+    private static final int TEAM_UPDATE = 2;
+    private static final int TEAM_ADD_PLAYERS = 3;
+    private static final int TEAM_REMOVE_PLAYERS = 4;
+
+    /**
+     * Queued instead of a packet when everything should be forgotten, like when connecting to a server
+     */
+    private static final Object RESET = new Object();
+
+    /**
+     * Objective of the sidebars queued by {@link #replay(String, List)}
+     */
+    private static final String RECORDED_OBJECTIVE = "SessionReplay";
+
+    private final Queue<Object> packets = new ConcurrentLinkedQueue<>();
+
+    private final Map<String, String> objectiveDisplayNames = new HashMap<>();
+    private final Map<String, Map<String, Integer>> scores = new HashMap<>();
+    private final Map<String, String[]> teamAffixes = new HashMap<>();
+    private final Map<String, String> playerTeams = new HashMap<>();
+    private final Map<String, FormattedLine> formattedLines = new HashMap<>();
+    private int dimension;
+
+    private String sidebarObjective;
+    private final String[] lines = new String[MAX_LINES];
+    private int lineCount;
+    private int changedLines;
+    private boolean titleChanged;
+    private boolean sidebarDirty;
+    // Lines of a replayed sidebar, which are used instead of the sidebar objective's scores
+    private List<String> recordedLines;
+
+    // Scores of the sidebar objective while rebuilding, sorted like the scoreboard sorts them
+    private String[] sortedPlayers = new String[MAX_LINES * 2];
+    private int[] sortedScores = new int[MAX_LINES * 2];
+    private int sortedCount;
+    private final BiConsumer<String, Integer> insertScore = this::insertScore;
+
+    /**
+     * Queues a scoreboard packet, this can be called from any thread.
+     *
+     * @param packet The packet
+     */
+    void enqueue(Object packet) {
+        packets.add(packet);
+    }
+
+    /**
+     * Forgets all objectives, scores and teams once the next update happens. This can be called from any thread.
+     */
+    public void reset() {
+        packets.add(RESET);
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Queues a sidebar recorded by the {@link codes.biscuit.skyblocklib.recording.SessionRecorder}, which replaces the
+     * current sidebar once the next update happens. The lines are compared with the current ones like the lines built
+     * from packets, so only the lines that are different are marked as changed.
+     *
+     * @param title The recorded title
+     * @param lines The recorded lines, from the bottom line to the top line
+     */
+    public void replay(String title, List<String> lines) {
+        packets.add(new RecordedSidebar(title, lines));
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Applies the queued packets and rebuilds the lines if the sidebar changed.
+     *
+     * @return Whether the sidebar's title or any of its lines changed
+     */
+    public boolean update() {
+        changedLines = 0;
+        titleChanged = false;
+        Object packet;
+        while ((packet = packets.poll()) != null) {
+            apply(packet);
+        }
+        if (sidebarDirty) {
+            sidebarDirty = false;
+            rebuildLines();
+        }
+        return titleChanged || changedLines != 0;
+    }
+
+    private void apply(Object packet) {
+        if (packet instanceof S3EPacketTeams) {
+            applyTeam((S3EPacketTeams) packet);
+        } else if (packet instanceof S3CPacketUpdateScore) {
+            applyScore((S3CPacketUpdateScore) packet);
+        } else if (packet instanceof S3BPacketScoreboardObjective) {
+            applyObjective((S3BPacketScoreboardObjective) packet);
+        } else if (packet instanceof S3DPacketDisplayScoreboard) {
+            S3DPacketDisplayScoreboard displayPacket = (S3DPacketDisplayScoreboard) packet;
+            if (displayPacket.func_149371_c() == SIDEBAR_SLOT) {
+                String objective = displayPacket.func_149370_d();
+                sidebarObjective = objective == null || objective.isEmpty() ? null : objective;
+                titleChanged = true;
+                sidebarDirty = true;
+            }
+        } else if (packet instanceof S07PacketRespawn) {
+            // The client only creates a new world, and with it a new scoreboard, when the dimension changes
+            if (((S07PacketRespawn) packet).getDimensionID() != dimension) {
+                dimension = ((S07PacketRespawn) packet).getDimensionID();
+                clear();
+            }
+        } else if (packet instanceof S01PacketJoinGame) {
+            dimension = ((S01PacketJoinGame) packet).getDimension();
+            clear();
+        } else if (packet == RESET) {
+            clear();
+        } else if (packet instanceof RecordedSidebar) {
+            RecordedSidebar recordedSidebar = (RecordedSidebar) packet;
+            if (!RECORDED_OBJECTIVE.equals(sidebarObjective) || !recordedSidebar.title.equals(getTitle())) {
+                titleChanged = true;
+            }
+            objectiveDisplayNames.put(RECORDED_OBJECTIVE, recordedSidebar.title);
+            sidebarObjective = RECORDED_OBJECTIVE;
+            recordedLines = recordedSidebar.lines;
+            sidebarDirty = true;
+        }
+    }
+
+    private void applyObjective(S3BPacketScoreboardObjective packet) {
+        String objective = packet.func_149339_c();
+        boolean sidebar = objective.equals(sidebarObjective);
+        if (packet.func_149338_e() == OBJECTIVE_REMOVE) {
+            objectiveDisplayNames.remove(objective);
+            scores.remove(objective);
+            if (sidebar) {
+                sidebarObjective = null;
+            }
+        } else {
+            objectiveDisplayNames.put(objective, packet.func_149337_d());
+        }
+        if (sidebar) {
+            titleChanged = true;
+            sidebarDirty = true;
+        }
+    }
+
+    private void applyScore(S3CPacketUpdateScore packet) {
+        String objective = packet.getObjectiveName();
+        if (packet.getScoreAction() == S3CPacketUpdateScore.Action.REMOVE) {
+            if (objective == null || objective.isEmpty()) {
+                // Removed from all objectives
+                for (Map<String, Integer> objectiveScores : scores.values()) {
+                    objectiveScores.remove(packet.getPlayerName());
+                }
+                formattedLines.remove(packet.getPlayerName());
+                sidebarDirty = true;
+                return;
+            }
+            Map<String, Integer> objectiveScores = scores.get(objective);
+            if (objectiveScores != null) {
+                objectiveScores.remove(packet.getPlayerName());
+            }
+            formattedLines.remove(packet.getPlayerName());
+        } else {
+            scores.computeIfAbsent(objective, name -> new HashMap<>()).put(packet.getPlayerName(), packet.getScoreValue());
+        }
+        if (objective.equals(sidebarObjective)) {
+            sidebarDirty = true;
+        }
+    }
+
+    private void applyTeam(S3EPacketTeams packet) {
+        String team = packet.getName();
+        switch (packet.getAction()) {
+            case TEAM_CREATE:
+                teamAffixes.put(team, new String[]{packet.getPrefix(), packet.getSuffix()});
+                addPlayers(team, packet.getPlayers());
+                break;
+            case TEAM_REMOVE:
+                teamAffixes.remove(team);
+                playerTeams.values().removeIf(team::equals);
+                break;
+            case TEAM_UPDATE:
+                teamAffixes.put(team, new String[]{packet.getPrefix(), packet.getSuffix()});
+                break;
+            case TEAM_ADD_PLAYERS:
+                addPlayers(team, packet.getPlayers());
+                break;
+            case TEAM_REMOVE_PLAYERS:
+                for (String player : packet.getPlayers()) {
+                    playerTeams.remove(player, team);
+                }
+                break;
+            default:
+                return;
+        }
+        // Teams are checked when the lines are rebuilt, which is cheap compared to looking up their players here
+        sidebarDirty = true;
+    }
+
+    private void addPlayers(String team, Collection<String> players) {
+        if (players != null) {
+            for (String player : players) {
+                playerTeams.put(player, team);
+            }
+        }
+    }
+
+    private void clear() {
+        objectiveDisplayNames.clear();
+        scores.clear();
+        teamAffixes.clear();
+        playerTeams.clear();
+        formattedLines.clear();
+        recordedLines = null;
+        if (sidebarObjective != null) {
+            sidebarObjective = null;
+            titleChanged = true;
+        }
+        sidebarDirty = true;
+    }
+
+    /**
+     * Builds the line of every score of the sidebar objective, like the scoreboard would format them.
+     */
+    private void rebuildLines() {
+        if (recordedLines != null && RECORDED_OBJECTIVE.equals(sidebarObjective)) {
+            int newLineCount = Math.min(recordedLines.size(), MAX_LINES);
+            for (int i = 0; i < newLineCount; i++) {
+                setLine(i, recordedLines.get(i));
+            }
+            removeLines(newLineCount);
+            return;
+        }
+
+        sortedCount = 0;
+        Map<String, Integer> objectiveScores = sidebarObjective == null ? null : scores.get(sidebarObjective);
+        if (objectiveScores != null) {
+            // Unlike iterating the entries, this doesn't create an iterator
+            objectiveScores.forEach(insertScore);
+        }
+
+        int newLineCount = Math.min(sortedCount, MAX_LINES);
+        int skipped = sortedCount - newLineCount;
+        for (int i = 0; i < newLineCount; i++) {
+            setLine(i, formatLine(sortedPlayers[skipped + i]));
+        }
+        removeLines(newLineCount);
+        Arrays.fill(sortedPlayers, 0, sortedCount, null);
+    }
+
+    private void setLine(int index, String line) {
+        if (index >= lineCount || !line.equals(lines[index])) {
+            lines[index] = line;
+            changedLines |= 1 << index;
+        }
+    }
+
+    /**
+     * Removes the lines from the new line count on, after the lines before it were set.
+     */
+    private void removeLines(int newLineCount) {
+        for (int i = newLineCount; i < lineCount; i++) {
+            lines[i] = null;
+            changedLines |= 1 << i;
+        }
+        lineCount = newLineCount;
+    }
+
+    /**
+     * Insertion sort in the same order as the scoreboard's sorted scores: by score, then by name in reverse.
+     * There are only a few scores, and they mostly arrive in order already.
+     */
+    private void insertScore(String player, Integer score) {
+        // Hidden scores
+        if (player.startsWith("#")) {
+            return;
+        }
+        if (sortedCount == sortedPlayers.length) {
+            sortedPlayers = Arrays.copyOf(sortedPlayers, sortedCount * 2);
+            sortedScores = Arrays.copyOf(sortedScores, sortedCount * 2);
+        }
+        int value = score;
+        int position = sortedCount++;
+        while (position > 0 && (sortedScores[position - 1] > value
+                || sortedScores[position - 1] == value && player.compareToIgnoreCase(sortedPlayers[position - 1]) > 0)) {
+            sortedPlayers[position] = sortedPlayers[position - 1];
+            sortedScores[position] = sortedScores[position - 1];
+            position--;
+        }
+        sortedPlayers[position] = player;
+        sortedScores[position] = value;
+    }
+
+    private String formatLine(String player) {
+        String team = playerTeams.get(player);
+        String[] affixes = team == null ? null : teamAffixes.get(team);
+        String prefix = affixes == null || affixes[0] == null ? "" : affixes[0];
+        String suffix = affixes == null || affixes[1] == null ? "" : affixes[1];
+
+        FormattedLine formattedLine = formattedLines.get(player);
+        if (formattedLine == null) {
+            formattedLine = new FormattedLine();
+            formattedLines.put(player, formattedLine);
+        } else if (formattedLine.prefix.equals(prefix) && formattedLine.suffix.equals(suffix)) {
+            return formattedLine.text;
+        }
+        formattedLine.prefix = prefix;
+        formattedLine.suffix = suffix;
+        formattedLine.text = prefix.isEmpty() && suffix.isEmpty() ? player : prefix + player + suffix;
+        return formattedLine.text;
+    }
+
+    /**
+     * @return Display name of the sidebar objective or {@code null} if there is no sidebar
+     */
+    public String getTitle() {
+        return sidebarObjective == null ? null : objectiveDisplayNames.get(sidebarObjective);
+    }
+
+    /**
+     * @return Whether the sidebar objective or its display name changed in the last update
+     */
+    public boolean isTitleChanged() {
+        return titleChanged;
+    }
+
+    /**
+     * @return Amount of lines in the sidebar, up to {@value #MAX_LINES}
+     */
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * @param index Index of the line, {@code 0} is the bottom line
+     * @return The formatted line
+     */
+    public String getLine(int index) {
+        return lines[index];
+    }
+
+    /**
+     * @param index Index of the line, {@code 0} is the bottom line
+     * @return Whether the line changed in the last update, including lines that were removed
+     */
+    public boolean isLineChanged(int index) {
+        return (changedLines & 1 << index) != 0;
+    }
+
+    /**
+     * @return Bit mask of the lines that changed in the last update, bit {@code i} is line {@code i}
+     */
+    public int getChangedLines() {
+        return changedLines;
+    }
+
+    /**
+     * @return A copy of the lines, from the bottom line to the top line
+     */
+    public List<String> getLines() {
+        return lineCount == 0 ? Collections.emptyList() : new ArrayList<>(Arrays.asList(lines).subList(0, lineCount));
+    }
+
+    /**
+     * A sidebar queued by {@link #replay(String, List)}
+     */
+    private static class RecordedSidebar {
+        private final String title;
+        private final List<String> lines;
+
+        private RecordedSidebar(String title, List<String> lines) {
+            this.title = title;
+            this.lines = lines;
+        }
+    }
+
+    /**
+     * A player's line and the team prefix and suffix it was formatted with
+     */
+    private static class FormattedLine {
+        private String prefix;
+        private String suffix;
+        private String text;
+    }
+}
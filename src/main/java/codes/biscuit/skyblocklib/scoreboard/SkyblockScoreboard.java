@@ -0,0 +1,233 @@
+package codes.biscuit.skyblocklib.scoreboard;
+
+import codes.biscuit.skyblocklib.parsers.NumberScanner;
+
+/**
+ * The information on the Skyblock sidebar, like the purse, bits, location, current objective and server id, so mods
+ * can read it from here instead of parsing the sidebar themselves.
+ * <p>
+ * Every sidebar line is classified once when it changes, and its value is kept per line. The fields are then taken
+ * from the classified lines, where like with the date and time the last line wins. Fields are identified by their
+ * bits, like {@link #PURSE}, and {@link #updateFields(int)} returns the bits of the ones that changed, which are
+ * fired with a {@link codes.biscuit.skyblocklib.event.SkyblockScoreboardUpdateEvent}.
+ * <p>
+ * Lines are in the order of the {@link SidebarModel}, so the first line is the bottom line of the sidebar.
+ */
+public class SkyblockScoreboard {
+
+    public static final int PURSE = 1;
+    public static final int BITS = 1 << 1;
+    public static final int LOCATION = 1 << 2;
+    public static final int OBJECTIVE = 1 << 3;
+    public static final int SERVER = 1 << 4;
+
+    private static final byte NONE = 0;
+    private static final byte PURSE_LINE = 1;
+    private static final byte BITS_LINE = 2;
+    private static final byte LOCATION_LINE = 3;
+    private static final byte OBJECTIVE_HEADER_LINE = 4;
+    private static final byte SERVER_LINE = 5;
+
+    private static final char LOCATION_SYMBOL = '\u23E3';
+
+    private final NumberScanner numberScanner = new NumberScanner();
+    private final StringBuilder lineBuilder = new StringBuilder();
+
+    // Type, text and number of every line, only updated when the line changes
+    private final byte[] lineTypes = new byte[SidebarModel.MAX_LINES];
+    private final String[] lineTexts = new String[SidebarModel.MAX_LINES];
+    private final double[] lineNumbers = new double[SidebarModel.MAX_LINES];
+
+    private double purse = -1;
+    private int bits = -1;
+    private String location;
+    private String objective;
+    private String server;
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Classifies a sidebar line that changed. The fields are only updated by {@link #updateFields(int)}.
+     *
+     * @param index Index of the line, {@code 0} is the bottom line
+     * @param line The new line or {@code null} if it was removed
+     */
+    public void updateLine(int index, String line) {
+        lineTypes[index] = NONE;
+        lineTexts[index] = null;
+        lineNumbers[index] = 0;
+        if (line == null) {
+            return;
+        }
+        String strippedLine = stripLine(line);
+        lineTexts[index] = strippedLine;
+
+        if (strippedLine.startsWith("Purse:") || strippedLine.startsWith("Piggy:")) {
+            if (scanNumber(strippedLine, 6)) {
+                lineTypes[index] = PURSE_LINE;
+                lineNumbers[index] = numberScanner.getDouble();
+            }
+        } else if (strippedLine.startsWith("Bits:")) {
+            if (scanNumber(strippedLine, 5)) {
+                lineTypes[index] = BITS_LINE;
+                lineNumbers[index] = numberScanner.getInt();
+            }
+        } else if (strippedLine.indexOf(LOCATION_SYMBOL) != -1) {
+            lineTypes[index] = LOCATION_LINE;
+            lineTexts[index] = strippedLine.substring(strippedLine.indexOf(LOCATION_SYMBOL) + 1).trim();
+        } else if (strippedLine.equals("Objective")) {
+            lineTypes[index] = OBJECTIVE_HEADER_LINE;
+        } else if (isServerLine(strippedLine)) {
+            lineTypes[index] = SERVER_LINE;
+            lineTexts[index] = strippedLine.substring(strippedLine.lastIndexOf(' ') + 1);
+        }
+    }
+
+    /**
+     * Removes the color codes and the filler characters Hypixel pads sidebar lines with, like emojis between the
+     * prefix and suffix of a line, which would otherwise split a number or hide a label. Only printable ASCII,
+     * letters, digits and the location symbol are kept.
+     */
+    private String stripLine(String line) {
+        lineBuilder.setLength(0);
+        for (int i = 0; i < line.length(); i++) {
+            char character = line.charAt(i);
+            if (character == '§') {
+                // Color code
+                i++;
+            } else if (character >= ' ' && character <= '~' || Character.isLetterOrDigit(character)
+                    || character == LOCATION_SYMBOL) {
+                lineBuilder.append(character);
+            }
+        }
+        return lineBuilder.toString().trim();
+    }
+
+    /**
+     * Scans the number after a label, up to the first character that can't be part of it, like in
+     * {@code Bits: 1,234 (+50)}.
+     */
+    private boolean scanNumber(String line, int start) {
+        while (start < line.length() && line.charAt(start) == ' ') {
+            start++;
+        }
+        int end = start;
+        while (end < line.length() && isNumberCharacter(line.charAt(end))) {
+            end++;
+        }
+        return numberScanner.scan(line, start, end);
+    }
+
+    private static boolean isNumberCharacter(char character) {
+        return character >= '0' && character <= '9' || character == ',' || character == '.';
+    }
+
+    /**
+     * The top line has the server's date and id, like {@code 07/25/20 m77CK}.
+     */
+    private static boolean isServerLine(String line) {
+        return line.length() > 9 && line.charAt(2) == '/' && line.charAt(5) == '/' && line.charAt(8) == ' '
+                && Character.isDigit(line.charAt(0)) && Character.isDigit(line.charAt(7));
+    }
+
+    /**
+     * <h3>This should not be used outside SkyblockLib!</h3>
+     * Updates the fields from the classified lines, after all changed lines were {@link #updateLine(int, String)
+     * updated}.
+     *
+     * @param lineCount Amount of lines in the sidebar
+     * @return Bits of the fields that changed
+     */
+    public int updateFields(int lineCount) {
+        double newPurse = -1;
+        int newBits = -1;
+        String newLocation = null;
+        String newObjective = null;
+        String newServer = null;
+        for (int i = 0; i < lineCount; i++) {
+            switch (lineTypes[i]) {
+                case PURSE_LINE:
+                    newPurse = lineNumbers[i];
+                    break;
+                case BITS_LINE:
+                    newBits = (int) lineNumbers[i];
+                    break;
+                case LOCATION_LINE:
+                    newLocation = lineTexts[i];
+                    break;
+                case OBJECTIVE_HEADER_LINE:
+                    // The objective is the line below its header
+                    if (i > 0 && lineTexts[i - 1] != null && !lineTexts[i - 1].isEmpty()) {
+                        newObjective = lineTexts[i - 1];
+                    }
+                    break;
+                case SERVER_LINE:
+                    newServer = lineTexts[i];
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        int changedFields = 0;
+        if (newPurse != purse) {
+            purse = newPurse;
+            changedFields |= PURSE;
+        }
+        if (newBits != bits) {
+            bits = newBits;
+            changedFields |= BITS;
+        }
+        if (!equals(newLocation, location)) {
+            location = newLocation;
+            changedFields |= LOCATION;
+        }
+        if (!equals(newObjective, objective)) {
+            objective = newObjective;
+            changedFields |= OBJECTIVE;
+        }
+        if (!equals(newServer, server)) {
+            server = newServer;
+            changedFields |= SERVER;
+        }
+        return changedFields;
+    }
+
+    private static boolean equals(String first, String second) {
+        return first == null ? second == null : first.equals(second);
+    }
+
+    /**
+     * @return Coins in the purse or piggy bank or {@code -1} if unknown
+     */
+    public double getPurse() {
+        return purse;
+    }
+
+    /**
+     * @return Bits or {@code -1} if unknown
+     */
+    public int getBits() {
+        return bits;
+    }
+
+    /**
+     * @return Name of the current location, like {@code Village}, or {@code null} if unknown
+     */
+    public String getLocation() {
+        return location;
+    }
+
+    /**
+     * @return The current objective or {@code null} if none is shown
+     */
+    public String getObjective() {
+        return objective;
+    }
+
+    /**
+     * @return Id of the server the player is on, like {@code m77CK}, or {@code null} if unknown
+     */
+    public String getServer() {
+        return server;
+    }
+}
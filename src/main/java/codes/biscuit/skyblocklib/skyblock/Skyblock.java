@@ -2,11 +2,13 @@ package codes.biscuit.skyblocklib.skyblock;
 
 import codes.biscuit.skyblocklib.calendar.SkyblockCalendar;
 import codes.biscuit.skyblocklib.calendar.SkyblockMonth;
+import codes.biscuit.skyblocklib.scoreboard.SkyblockScoreboard;
 
 public class Skyblock {
 
     private boolean onSkyblock = false;
     private final SkyblockCalendar calendar = new SkyblockCalendar(SkyblockMonth.EARLY_SPRING, 1, 0, 0, "am");
+    private final SkyblockScoreboard scoreboard = new SkyblockScoreboard();
 
     /**
      * Get the current skyblock date and time.
@@ -19,6 +21,16 @@ public class Skyblock {
         return calendar;
     }
 
+    /**
+     * Get the information on the sidebar, like the purse and location.
+     * This object is kept up to date while the player is on Skyblock.
+     *
+     * @return the Skyblock scoreboard object.
+     */
+    public SkyblockScoreboard getScoreboard() {
+        return scoreboard;
+    }
+
     /**
      * @return Whether the player is currently on skyblock or not.
      */
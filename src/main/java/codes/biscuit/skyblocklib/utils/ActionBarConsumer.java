@@ -5,6 +5,9 @@ import codes.biscuit.skyblocklib.parsers.ActionBarParser;
 /**
  * Consumers determine how action bar sections are displayed.
  * The {@link ActionBarParser} accepts consumers for different sections to customize the action bar display.
+ * <p>
+ * Every call of this consumer copies the section into a new String. Use an {@link ActionBarSectionConsumer} instead
+ * to work on the section without copying it.
  */
 @FunctionalInterface
 public interface ActionBarConsumer {
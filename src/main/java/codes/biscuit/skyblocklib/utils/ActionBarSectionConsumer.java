@@ -0,0 +1,77 @@
+package codes.biscuit.skyblocklib.utils;
+
+import codes.biscuit.skyblocklib.parsers.ActionBarParser;
+
+/**
+ * Consumers determine how action bar sections are displayed, like {@link ActionBarConsumer} does, but without
+ * copying any text.
+ * Sections are passed as a view on the original action bar message, and replacement text gets written into a builder
+ * that the {@link ActionBarParser} reuses for every section. If no consumer changes anything, the original action bar
+ * message is displayed as it is.
+ */
+@FunctionalInterface
+public interface ActionBarSectionConsumer {
+
+    /**
+     * Consumer that removes every section it receives by just returning {@link Result#REMOVE}.
+     */
+    ActionBarSectionConsumer REMOVE_SECTION_CONSUMER = (section, replacement) -> Result.REMOVE;
+
+    /**
+     * After a section is parsed, this is called with a view on the <em>initial, unformatted</em> section text.
+     * The consumer is then expected to say how the section should continue to be displayed: Return
+     * {@link Result#KEEP} to not alter it at all, {@link Result#REMOVE} to completely remove it from the action bar or
+     * write the new text into {@code replacement} and return {@link Result#REPLACE}.
+     * <p>
+     * Both the section and the builder are reused for the next section, so they must not be kept after this returns.
+     *
+     * @param section View on the unformatted section text
+     * @param replacement Empty builder to write replacement text into
+     * @return How the section should be displayed
+     */
+    Result consumeSection(CharSequence section, StringBuilder replacement);
+
+    /**
+     * Adapts a String based {@link ActionBarConsumer} to this interface.
+     * The section is only reported as changed if the consumer returns a different text than it received.
+     *
+     * @param consumer The consumer to adapt, may be {@code null}
+     * @return The adapted consumer or {@code null} if {@code consumer} was {@code null}
+     */
+    static ActionBarSectionConsumer fromConsumer(ActionBarConsumer consumer) {
+        if (consumer == null) {
+            return null;
+        } else if (consumer == ActionBarConsumer.REMOVE_TEXT_CONSUMER) {
+            return REMOVE_SECTION_CONSUMER;
+        }
+        return (section, replacement) -> {
+            String sectionText = section.toString();
+            String newText = consumer.consumeSection(sectionText);
+            if (newText == null) {
+                return Result.REMOVE;
+            } else if (newText.equals(sectionText)) {
+                return Result.KEEP;
+            }
+            replacement.append(newText);
+            return Result.REPLACE;
+        };
+    }
+
+    /**
+     * The ways a consumed section can continue to be displayed.
+     */
+    enum Result {
+        /**
+         * Display the section unchanged
+         */
+        KEEP,
+        /**
+         * Remove the section from the action bar
+         */
+        REMOVE,
+        /**
+         * Display the text written to the replacement builder instead of the section
+         */
+        REPLACE
+    }
+}
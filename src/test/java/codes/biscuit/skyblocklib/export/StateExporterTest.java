@@ -0,0 +1,66 @@
+package codes.biscuit.skyblocklib.export;
+
+import codes.biscuit.skyblocklib.calendar.SkyblockMonth;
+import codes.biscuit.skyblocklib.model.ItemCharges;
+import codes.biscuit.skyblocklib.player.SkyblockPlayer;
+import codes.biscuit.skyblocklib.skyblock.Skyblock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+
+import static org.junit.Assert.*;
+
+public class StateExporterTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private SkyblockPlayer skyblockPlayer;
+    private Skyblock skyblock;
+    private StateExporter stateExporter;
+
+    @Before
+    public void setUp() throws Exception {
+        skyblockPlayer = new SkyblockPlayer();
+        skyblock = new Skyblock();
+        stateExporter = new StateExporter(skyblockPlayer, skyblock);
+    }
+
+    @Test
+    public void export() throws Exception {
+        File file = temporaryFolder.newFile("state.bin");
+        stateExporter.start(file);
+        StateExportReader reader = new StateExportReader(file);
+        assertTrue(reader.read());
+        assertEquals(2, reader.getSequence());
+        assertFalse(reader.hasFlag(StateExportFormat.FLAG_ON_SKYBLOCK));
+
+        skyblock.setOnSkyblock(true);
+        skyblock.getCalendar().setMonth(SkyblockMonth.LATE_SUMMER);
+        skyblockPlayer.getAttributes().setHealth(1390);
+        skyblockPlayer.getAttributes().setMaxMana(171);
+        skyblockPlayer.setCurrentItemCharges(new ItemCharges(3, 4));
+        skyblockPlayer.publishState();
+        stateExporter.export();
+
+        assertTrue(reader.read());
+        assertEquals(4, reader.getSequence());
+        assertTrue(reader.hasFlag(StateExportFormat.FLAG_ON_SKYBLOCK));
+        assertTrue(reader.hasFlag(StateExportFormat.FLAG_HAS_CHARGES));
+        assertFalse(reader.hasFlag(StateExportFormat.FLAG_HAS_POWER_ORB));
+        assertEquals(1390, reader.getHealth());
+        assertEquals(171, reader.getMaxMana());
+        assertEquals(3, reader.getAvailableCharges());
+        assertEquals(SkyblockMonth.LATE_SUMMER.ordinal(), reader.getMonth());
+        assertEquals(-1, reader.getSkill());
+
+        // Stopping keeps the last state in the file
+        stateExporter.stop();
+        stateExporter.export();
+        assertTrue(reader.read());
+        assertEquals(4, reader.getSequence());
+    }
+}
@@ -0,0 +1,62 @@
+package codes.biscuit.skyblocklib.item;
+
+import codes.biscuit.skyblocklib.managers.ItemAbilityFile;
+import codes.biscuit.skyblocklib.model.SkyblockItemAbility;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class HeldItemResolverTest {
+
+    private final SkyblockItemAbility TEST_ABILITY = new SkyblockItemAbility("Instant Transmission", 0, 50,
+            "ASPECT_OF_THE_END", new String[]{"ASPECT_OF_THE_VOID"});
+
+    private HeldItemResolver heldItemResolver;
+
+    @Before
+    public void setUp() throws Exception {
+        heldItemResolver = new HeldItemResolver(ItemAbilityFile.fromAbilityMap(
+                Collections.singletonMap(TEST_ABILITY.getName(), TEST_ABILITY)));
+    }
+
+    @Test
+    public void update() throws Exception {
+        ItemStack aspectOfTheEnd = itemWithId("ASPECT_OF_THE_END");
+        assertTrue(heldItemResolver.update(0, aspectOfTheEnd));
+        assertEquals("ASPECT_OF_THE_END", heldItemResolver.getItemId());
+        assertTrue(heldItemResolver.hasAbility(TEST_ABILITY));
+
+        // The same stack isn't read again
+        assertFalse(heldItemResolver.update(0, aspectOfTheEnd));
+        verify(aspectOfTheEnd, times(1)).getSubCompound("ExtraAttributes", false);
+
+        // A new stack of the same item in the same slot is the same item
+        assertFalse(heldItemResolver.update(0, itemWithId("ASPECT_OF_THE_END")));
+
+        assertTrue(heldItemResolver.update(0, itemWithId("ASPECT_OF_THE_VOID")));
+        assertEquals(Collections.singletonList(TEST_ABILITY), heldItemResolver.getAbilities());
+
+        assertTrue(heldItemResolver.update(1, itemWithId("ASPECT_OF_THE_VOID")));
+        assertTrue(heldItemResolver.update(1, null));
+        assertNull(heldItemResolver.getItemId());
+        assertTrue(heldItemResolver.getAbilities().isEmpty());
+
+        assertTrue(heldItemResolver.update(2, mock(ItemStack.class)));
+        assertNull(heldItemResolver.getItemId());
+    }
+
+    private ItemStack itemWithId(String id) {
+        NBTTagCompound extraAttributes = mock(NBTTagCompound.class);
+        when(extraAttributes.hasKey("id", 8)).thenReturn(true);
+        when(extraAttributes.getString("id")).thenReturn(id);
+        ItemStack stack = mock(ItemStack.class);
+        when(stack.getSubCompound("ExtraAttributes", false)).thenReturn(extraAttributes);
+        return stack;
+    }
+}
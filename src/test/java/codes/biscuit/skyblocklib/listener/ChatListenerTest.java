@@ -2,8 +2,10 @@ package codes.biscuit.skyblocklib.listener;
 
 import codes.biscuit.skyblocklib.SkyblockLib;
 import codes.biscuit.skyblocklib.event.SkyblockAbilityEvent;
+import codes.biscuit.skyblocklib.managers.AbilityAnnouncements;
 import codes.biscuit.skyblocklib.managers.ItemAbilityFile;
 import codes.biscuit.skyblocklib.model.SkyblockItemAbility;
+import codes.biscuit.skyblocklib.recording.SessionRecorder;
 import net.minecraft.util.ChatComponentText;
 import net.minecraftforge.client.event.ClientChatReceivedEvent;
 import net.minecraftforge.fml.common.eventhandler.Event;
@@ -42,6 +44,8 @@ public class ChatListenerTest {
     public void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
         when(skyblockLib.getItemAbilityFile()).thenReturn(ItemAbilityFile.fromAbilityMap(testAbilities));
+        when(skyblockLib.getAbilityAnnouncements()).thenReturn(new AbilityAnnouncements());
+        when(skyblockLib.getSessionRecorder()).thenReturn(new SessionRecorder());
         PowerMockito.mockStatic(SkyblockLib.class);
         when(SkyblockLib.isOnSkyblock()).thenReturn(true);
         chatListener = new ChatListener(skyblockLib, eventBus);
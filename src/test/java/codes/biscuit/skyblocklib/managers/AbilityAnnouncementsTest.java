@@ -0,0 +1,50 @@
+package codes.biscuit.skyblocklib.managers;
+
+import codes.biscuit.skyblocklib.model.SkyblockItemAbility;
+import org.junit.Before;
+import org.junit.Test;
+
+import static codes.biscuit.skyblocklib.managers.AbilityAnnouncements.Source.ACTION_BAR;
+import static codes.biscuit.skyblocklib.managers.AbilityAnnouncements.Source.CHAT;
+import static org.junit.Assert.*;
+
+public class AbilityAnnouncementsTest {
+
+    private final SkyblockItemAbility LEAP = new SkyblockItemAbility("Leap", 2, 100, "LEAPING_SWORD", null);
+    private final SkyblockItemAbility INSTANT_TRANSMISSION = new SkyblockItemAbility("Instant Transmission", 0, 50, "ASPECT_OF_THE_END", null);
+
+    private AbilityAnnouncements abilityAnnouncements;
+
+    @Before
+    public void setUp() throws Exception {
+        abilityAnnouncements = new AbilityAnnouncements();
+    }
+
+    @Test
+    public void announce() throws Exception {
+        // Announced in both places, in any order
+        assertTrue(abilityAnnouncements.announce(LEAP, ACTION_BAR, 1000));
+        assertFalse(abilityAnnouncements.announce(LEAP, CHAT, 1050));
+        assertTrue(abilityAnnouncements.announce(LEAP, CHAT, 3000));
+        assertFalse(abilityAnnouncements.announce(LEAP, ACTION_BAR, 3050));
+
+        // Too late to be the same use
+        assertTrue(abilityAnnouncements.announce(LEAP, ACTION_BAR, 5000));
+        assertTrue(abilityAnnouncements.announce(LEAP, CHAT, 5000 + AbilityAnnouncements.PAIRING_MILLIS + 1));
+
+        // Another ability isn't the same use
+        assertTrue(abilityAnnouncements.announce(INSTANT_TRANSMISSION, CHAT, 8000));
+        assertTrue(abilityAnnouncements.announce(LEAP, ACTION_BAR, 8010));
+    }
+
+    @Test
+    public void announce_spam() throws Exception {
+        // Repeated uses from one source are all counted, and each one is paired up once
+        assertTrue(abilityAnnouncements.announce(INSTANT_TRANSMISSION, ACTION_BAR, 1000));
+        assertTrue(abilityAnnouncements.announce(INSTANT_TRANSMISSION, ACTION_BAR, 1100));
+        assertFalse(abilityAnnouncements.announce(INSTANT_TRANSMISSION, CHAT, 1150));
+        assertFalse(abilityAnnouncements.announce(INSTANT_TRANSMISSION, CHAT, 1160));
+        assertTrue(abilityAnnouncements.announce(INSTANT_TRANSMISSION, CHAT, 1200));
+        assertFalse(abilityAnnouncements.announce(INSTANT_TRANSMISSION, ACTION_BAR, 1250));
+    }
+}
@@ -0,0 +1,71 @@
+package codes.biscuit.skyblocklib.managers;
+
+import codes.biscuit.skyblocklib.event.SkyblockAbilityReadyEvent;
+import codes.biscuit.skyblocklib.model.SkyblockItemAbility;
+import net.minecraftforge.fml.common.eventhandler.Event;
+import net.minecraftforge.fml.common.eventhandler.EventBus;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentMatcher;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class CooldownManagerTest {
+
+    private final SkyblockItemAbility LEAP = new SkyblockItemAbility("Leap", 2, 100, "LEAPING_SWORD", null);
+    private final SkyblockItemAbility IMPLOSION = new SkyblockItemAbility("Implosion", 10, 300, "IMPLOSION_BELT", null);
+    private final SkyblockItemAbility INSTANT_TRANSMISSION = new SkyblockItemAbility("Instant Transmission", 0, 50, "ASPECT_OF_THE_END", null);
+
+    @Mock
+    private EventBus eventBus;
+    private CooldownManager cooldownManager;
+
+    @Before
+    public void setUp() throws Exception {
+        MockitoAnnotations.initMocks(this);
+        Map<String, SkyblockItemAbility> abilities = new HashMap<>();
+        abilities.put(LEAP.getName(), LEAP);
+        abilities.put(IMPLOSION.getName(), IMPLOSION);
+        abilities.put(INSTANT_TRANSMISSION.getName(), INSTANT_TRANSMISSION);
+        cooldownManager = new CooldownManager(ItemAbilityFile.fromAbilityMap(abilities), eventBus);
+        cooldownManager.setEnabled(true);
+    }
+
+    @Test
+    public void cooldowns() throws Exception {
+        cooldownManager.onAbilityUsed(IMPLOSION, 1000);
+        cooldownManager.onAbilityUsed(LEAP, 2000);
+        cooldownManager.onAbilityUsed(INSTANT_TRANSMISSION, 2000);
+        assertFalse(cooldownManager.isReady(LEAP, 3000));
+        assertEquals(8000, cooldownManager.getRemainingMillis(IMPLOSION, 3000));
+        assertTrue(cooldownManager.isReady(INSTANT_TRANSMISSION, 2000));
+        assertEquals(2000, cooldownManager.getLastUsed(INSTANT_TRANSMISSION));
+
+        cooldownManager.tick(3999);
+        verify(eventBus, never()).post(any());
+        cooldownManager.tick(4000);
+        verify(eventBus, times(1)).post(argThat(readyEvent(LEAP)));
+        cooldownManager.tick(4050);
+        verify(eventBus, times(1)).post(any());
+
+        // Used again before the queue reached it, only the new cooldown fires
+        cooldownManager.onAbilityUsed(LEAP, 5000);
+        cooldownManager.onAbilityUsed(LEAP, 8000);
+        cooldownManager.tick(9000);
+        verify(eventBus, times(1)).post(argThat(readyEvent(LEAP)));
+        cooldownManager.tick(11000);
+        verify(eventBus, times(1)).post(argThat(readyEvent(IMPLOSION)));
+        verify(eventBus, times(2)).post(argThat(readyEvent(LEAP)));
+        assertTrue(cooldownManager.isReady(LEAP, 11000));
+    }
+
+    private ArgumentMatcher<Event> readyEvent(SkyblockItemAbility ability) {
+        return argument -> argument instanceof SkyblockAbilityReadyEvent && ((SkyblockAbilityReadyEvent) argument).getAbility() == ability;
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -51,4 +52,25 @@ public class ItemAbilityFileTest {
         assertFalse(optionalAbility.isPresent());
         assertNull(optionalAbility.get());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getAbilityIndex() {
+        assertEquals(1, itemAbilityFile.getAbilityCount());
+        assertEquals(0, itemAbilityFile.getAbilityIndex(TEST_ABILITY));
+        assertSame(TEST_ABILITY, itemAbilityFile.getAbility(0));
+        assertEquals(-1, itemAbilityFile.getAbilityIndex(new SkyblockItemAbility("Other Ability", 0, 0, "OTHER_ITEM", null)));
+
+        // Another file with the same ability doesn't change its index in this one
+        Map<String, SkyblockItemAbility> otherAbilities = new HashMap<>(testAbilities);
+        otherAbilities.put("A Test Ability", new SkyblockItemAbility("A Test Ability", 0, 0, "OTHER_ITEM", null));
+        ItemAbilityFile otherFile = ItemAbilityFile.fromAbilityMap(otherAbilities);
+        assertEquals(1, otherFile.getAbilityIndex(TEST_ABILITY));
+        assertEquals(0, itemAbilityFile.getAbilityIndex(TEST_ABILITY));
+    }
+
+    @Test
+    public void getAbilitiesOfItem() {
+        assertEquals(Collections.singletonList(TEST_ABILITY), itemAbilityFile.getAbilitiesOfItem("TEST_ITEM"));
+        assertTrue(itemAbilityFile.getAbilitiesOfItem("OTHER_ITEM").isEmpty());
+    }
+}
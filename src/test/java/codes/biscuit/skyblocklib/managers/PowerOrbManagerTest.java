@@ -0,0 +1,21 @@
+package codes.biscuit.skyblocklib.managers;
+
+import codes.biscuit.skyblocklib.item.PowerOrbType;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class PowerOrbManagerTest {
+
+    @Test
+    public void highestPriority() throws Exception {
+        PowerOrbManager powerOrbManager = new PowerOrbManager();
+        assertNull(powerOrbManager.get());
+
+        powerOrbManager.put(PowerOrbType.MANA_FLUX, 20);
+        powerOrbManager.put(PowerOrbType.OVERFLUX, 30);
+        powerOrbManager.put(PowerOrbType.RADIANT, 10);
+        assertEquals(PowerOrbType.OVERFLUX, powerOrbManager.get().getPowerOrbType());
+        assertEquals(30, powerOrbManager.get().getSeconds());
+    }
+}
@@ -0,0 +1,55 @@
+package codes.biscuit.skyblocklib.managers;
+
+import codes.biscuit.skyblocklib.model.Skill;
+import codes.biscuit.skyblocklib.model.SkyblockItemAbility;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class SessionStatisticsTest {
+
+    private final SkyblockItemAbility LEAP = new SkyblockItemAbility("Leap", 2, 100, "LEAPING_SWORD", null);
+    private final SkyblockItemAbility INSTANT_TRANSMISSION = new SkyblockItemAbility("Instant Transmission", 0, 50, "ASPECT_OF_THE_END", null);
+
+    private SessionStatistics sessionStatistics;
+
+    @Before
+    public void setUp() throws Exception {
+        Map<String, SkyblockItemAbility> abilities = new HashMap<>();
+        abilities.put(LEAP.getName(), LEAP);
+        abilities.put(INSTANT_TRANSMISSION.getName(), INSTANT_TRANSMISSION);
+        sessionStatistics = new SessionStatistics(ItemAbilityFile.fromAbilityMap(abilities));
+        sessionStatistics.setEnabled(true);
+    }
+
+    @Test
+    public void totals() throws Exception {
+        sessionStatistics.onJoined(0);
+        sessionStatistics.onAbilityUsed(LEAP);
+        sessionStatistics.onAbilityUsed(INSTANT_TRANSMISSION);
+        sessionStatistics.onAbilityUsed(INSTANT_TRANSMISSION);
+        sessionStatistics.onSkillXp(Skill.COMBAT, 10.5);
+        sessionStatistics.onSkillXp(Skill.COMBAT, 4.5);
+        sessionStatistics.onLeft(60000);
+        // Time in other lobbies doesn't count
+        sessionStatistics.onJoined(120000);
+
+        assertEquals(3, sessionStatistics.getTotalAbilityUses());
+        assertEquals(200, sessionStatistics.getTotalManaSpent());
+        assertEquals(1, sessionStatistics.getAbilityUses(LEAP));
+        assertEquals(100, sessionStatistics.getManaSpent(INSTANT_TRANSMISSION));
+        assertEquals(15, sessionStatistics.getSkillXp(Skill.COMBAT), 0);
+        assertEquals(120000, sessionStatistics.getSkyblockMillis(180000));
+        assertEquals(1.5, sessionStatistics.getAbilitiesPerMinute(180000), 0.001);
+
+        sessionStatistics.reset(180000);
+        assertEquals(0, sessionStatistics.getTotalAbilityUses());
+        assertEquals(0, sessionStatistics.getManaSpent(INSTANT_TRANSMISSION));
+        assertEquals(0, sessionStatistics.getTotalSkillXp(), 0);
+        assertEquals(1000, sessionStatistics.getSkyblockMillis(181000));
+    }
+}
@@ -0,0 +1,450 @@
+package codes.biscuit.skyblocklib.parsers;
+
+import codes.biscuit.skyblocklib.SkyblockLib;
+import codes.biscuit.skyblocklib.event.AttributesUpdateEvent;
+import codes.biscuit.skyblocklib.event.SkyblockAbilityEvent;
+import codes.biscuit.skyblocklib.item.HeldItemResolver;
+import codes.biscuit.skyblocklib.managers.AbilityAnnouncements;
+import codes.biscuit.skyblocklib.managers.ItemAbilityFile;
+import codes.biscuit.skyblocklib.managers.SessionStatistics;
+import codes.biscuit.skyblocklib.model.ItemCharges;
+import codes.biscuit.skyblocklib.model.Skill;
+import codes.biscuit.skyblocklib.model.SkillUpdate;
+import codes.biscuit.skyblocklib.model.SkyblockItemAbility;
+import codes.biscuit.skyblocklib.player.Attributes;
+import codes.biscuit.skyblocklib.player.SkyblockPlayer;
+import codes.biscuit.skyblocklib.utils.ActionBarSectionConsumer;
+import net.minecraftforge.fml.common.eventhandler.Event;
+import net.minecraftforge.fml.common.eventhandler.EventBus;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatcher;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static codes.biscuit.skyblocklib.parsers.ActionBarParser.DEFENSE_TRIGGER;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Parses every example action bar from the {@link ActionBarParser} documentation.
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(SkyblockLib.class)
+public class ActionBarParserTest {
+
+    private final String TEST_KEY = "Instant Transmission";
+    private final SkyblockItemAbility TEST_ABILITY = new SkyblockItemAbility(TEST_KEY, 0, 50, "ASPECT_OF_THE_END", null);
+
+    @Mock
+    private SkyblockLib skyblockLib;
+    @Mock
+    private EventBus eventBus;
+    private SkyblockPlayer skyblockPlayer;
+    private ActionBarParser actionBarParser;
+
+    @Before
+    public void setUp() throws Exception {
+        MockitoAnnotations.initMocks(this);
+        ItemAbilityFile itemAbilityFile = ItemAbilityFile.fromAbilityMap(Collections.singletonMap(TEST_KEY, TEST_ABILITY));
+        when(skyblockLib.getItemAbilityFile()).thenReturn(itemAbilityFile);
+        when(skyblockLib.getAbilityAnnouncements()).thenReturn(new AbilityAnnouncements());
+        SessionStatistics sessionStatistics = new SessionStatistics(itemAbilityFile);
+        sessionStatistics.setEnabled(true);
+        when(skyblockLib.getSessionStatistics()).thenReturn(sessionStatistics);
+        when(skyblockLib.getHeldItemResolver()).thenReturn(new HeldItemResolver(itemAbilityFile));
+        skyblockPlayer = new SkyblockPlayer();
+        PowerMockito.mockStatic(SkyblockLib.class);
+        actionBarParser = new ActionBarParser(skyblockLib, skyblockPlayer, eventBus);
+        skyblockPlayer.setActionBarParser(actionBarParser);
+    }
+
+    @Test
+    public void parseActionBar_normal() throws Exception {
+        actionBarParser.parseActionBar("§c1390/1390❤     §a720§a❈ Defense     §b183/171✎ Mana§r");
+        assertStats(1390, 1390, 0, 720, 183, 171);
+        assertNull(skyblockPlayer.getCurrentItemCharges());
+    }
+
+    @Test
+    public void parseActionBar_skill() throws Exception {
+        actionBarParser.parseActionBar("§c1390/1390❤     §3+10.9 Combat (313,937.1/600,000)     §b183/171✎ Mana§r");
+        assertStats(1390, 1390, 0, 0, 183, 171);
+        assertSkill("Combat", 10.9, 313937.1, 600000);
+
+        actionBarParser.parseActionBar("§c1390/1390❤     §3+10.9 Combat (313,948/600,000)     §b187/233✎ Mana    §a§lⓩⓩⓩⓩ§2§l§r");
+        assertStats(1390, 1390, 0, 0, 187, 233);
+        assertSkill("Combat", 10.9, 313948, 600000);
+        assertCharges(4, 4);
+
+        actionBarParser.parseActionBar("§5+§d30 §5Runecrafting (969/1000)");
+        assertSkill("Runecrafting", 30, 969, 1000);
+        assertEquals(Skill.RUNECRAFTING, skyblockPlayer.getLastSkillUpdate().getSkill());
+        assertEquals(313948, skyblockPlayer.getSkillTracker().getCurrentProgress(Skill.COMBAT), 0);
+        assertEquals(21.8, skyblockLib.getSessionStatistics().getSkillXp(Skill.COMBAT), 0.001);
+
+        // Skills that aren't known yet are still available as the last update
+        actionBarParser.parseActionBar("§3+5 Dungeoneering (50/100)");
+        assertSkill("Dungeoneering", 5, 50, 100);
+        assertNull(skyblockPlayer.getLastSkillUpdate().getSkill());
+    }
+
+    @Test
+    public void parseActionBar_charges() throws Exception {
+        actionBarParser.parseActionBar("§c1390/1390❤     §a725§a❈ Defense     §b175/233✎ Mana    §a§lⓩⓩⓩⓩ§2§l§r");
+        assertStats(1390, 1390, 0, 725, 175, 233);
+        assertCharges(4, 4);
+
+        ItemCharges fullCharges = skyblockPlayer.getCurrentItemCharges();
+        actionBarParser.parseActionBar("§c1390/1390❤     §a725§a❈ Defense     §b180/233✎ Mana    §a§lⓩⓩⓩⓩ§2§l§r");
+        assertSame(fullCharges, skyblockPlayer.getCurrentItemCharges());
+
+        actionBarParser.parseActionBar("§a§lⓩⓩⓩ§2§lⓄ§r");
+        assertCharges(3, 4);
+        assertEquals(-1, skyblockPlayer.getChargeTracker().getMillisToNextCharge(System.currentTimeMillis()));
+        actionBarParser.parseActionBar("§e§lⓄⓄⓄⓄ§7§l§r");
+        assertCharges(4, 4);
+        actionBarParser.parseActionBar("§e§lⓩⓩⓩ§6§lⓄⓄ§r");
+        assertCharges(3, 5);
+
+        actionBarParser.onHeldItemChanged();
+        assertNull(skyblockPlayer.getCurrentItemCharges());
+        // Another item can show the same charges
+        actionBarParser.parseActionBar("§e§lⓩⓩⓩ§6§lⓄⓄ§r");
+        assertCharges(3, 5);
+    }
+
+    @Test
+    public void parseActionBar_wandAndAbsorption() throws Exception {
+        actionBarParser.parseActionBar("§c1390/1390❤+§c30▅     §a724§a❈ Defense     §b97/171✎ Mana§r");
+        assertStats(1390, 1390, 30, 724, 97, 171);
+
+        actionBarParser.parseActionBar("§61181/1161❤     §a593§a❈ Defense     §b550/550✎ Mana§r");
+        assertStats(1181, 1161, 0, 593, 550, 550);
+
+        actionBarParser.parseActionBar("§61181/1161❤+§c20▆     §a593§a❈ Defense     §b501/550✎ Mana§r");
+        assertStats(1181, 1161, 20, 593, 501, 550);
+    }
+
+    @Test
+    public void parseActionBar_otherSections() throws Exception {
+        String endRace = "§d§lTHE END RACE §e00:52.370            §b147/147✎ Mana§r";
+        assertSame(endRace, actionBarParser.parseActionBar(endRace));
+        assertEquals(147, skyblockPlayer.getMana());
+
+        String woodsRace = "§A§LWOODS RACING §e00:31.520            §b147/147✎ Mana§r";
+        assertSame(woodsRace, actionBarParser.parseActionBar(woodsRace));
+
+        String trialsOfFire = "§c1078/1078❤   §610 DPS   §c1 second     §b421/421✎ Mana§r";
+        assertSame(trialsOfFire, actionBarParser.parseActionBar(trialsOfFire));
+        assertStats(1078, 1078, 0, 0, 421, 421);
+
+        // A minus sign only starts an ability section in front of a number
+        String hyphenated = "§c1078/1078❤     §eSelf-Destruct in §c10s     §b421/421✎ Mana§r";
+        assertSame(hyphenated, actionBarParser.parseActionBar(hyphenated));
+        assertEquals(0, actionBarParser.getSectionType(ActionBarParser.ABILITY_TRIGGER).getUnrecognizedCount());
+        assertTrue(actionBarParser.getUnparsedSections().isEmpty());
+    }
+
+    @Test
+    public void parseActionBar_unparsedSections() throws Exception {
+        String malformed = "§c1390❤     §7(Hello)     §b183/171✎ Mana§r";
+        ActionBarSectionType healthSection = actionBarParser.getSectionType('❤');
+        ActionBarSectionType skillSection = actionBarParser.getSectionType('(');
+        actionBarParser.subscribe(healthSection);
+        actionBarParser.subscribe(skillSection);
+
+        assertSame(malformed, actionBarParser.parseActionBar(malformed));
+        assertEquals(183, skyblockPlayer.getMana());
+
+        assertEquals(1, healthSection.getFailedCount());
+        assertEquals(0, healthSection.getParsedCount());
+        assertEquals(1, skillSection.getUnrecognizedCount());
+        assertEquals(1, actionBarParser.getSectionType('✎').getParsedCount());
+
+        // Repeats of the same unparsed section are only kept once
+        actionBarParser.parseActionBar("§c1390❤");
+        assertEquals(2, healthSection.getFailedCount());
+        assertEquals(3, actionBarParser.getUnparsedSections().size());
+        actionBarParser.parseActionBar("§c1390❤");
+        assertEquals(3, actionBarParser.getUnparsedSections().size());
+        assertEquals("[Health] §c1390❤", actionBarParser.getUnparsedSections().get(0));
+        assertEquals("[Skill] §7(Hello)", actionBarParser.getUnparsedSections().get(1));
+    }
+
+    @Test
+    public void parseActionBar_onDemand() throws Exception {
+        ActionBarSectionType manaSection = actionBarParser.getSectionType('✎');
+        ActionBarSectionType defenseSection = actionBarParser.getSectionType('❈');
+        // Nothing is subscribed by default, so sections are only parsed when they are read
+        actionBarParser.parseActionBar("§c1390/1390❤     §a720§a❈ Defense     §b183/171✎ Mana§r");
+        assertEquals(0, manaSection.getParsedCount());
+        assertEquals(183, skyblockPlayer.getMana());
+        assertEquals(171, skyblockPlayer.getMaxMana());
+        assertEquals(1, manaSection.getParsedCount());
+        assertEquals(0, defenseSection.getParsedCount());
+
+        // Values that weren't read before the next action bar only get parsed from that one
+        actionBarParser.parseActionBar("§c1390/1390❤     §a725§a❈ Defense     §b175/171✎ Mana§r");
+        assertEquals(725, skyblockPlayer.getDefense());
+        assertEquals(1, defenseSection.getParsedCount());
+
+        actionBarParser.subscribe(manaSection);
+        actionBarParser.parseActionBar("§c1390/1390❤     §a725§a❈ Defense     §b170/171✎ Mana§r");
+        assertEquals(2, manaSection.getParsedCount());
+    }
+
+    @Test
+    public void parseActionBar_unsubscribedPending() throws Exception {
+        ActionBarSectionType defenseSection = actionBarParser.getSectionType('❈');
+        actionBarParser.parseActionBar("§c1390/1390❤     §a720§a❈ Defense     §b183/171✎ Mana§r");
+        actionBarParser.parseActionBar("§c1390/1390❤     §a725§a❈ Defense     §b183/171✎ Mana§r");
+        assertEquals(0, defenseSection.getParsedCount());
+        assertEquals(725, skyblockPlayer.getDefense());
+        assertEquals(1, defenseSection.getParsedCount());
+
+        // Enabling the history subscribes the attribute sections, disabling it leaves them pending again
+        skyblockPlayer.getAttributeHistory().setEnabled(true);
+        actionBarParser.parseActionBar("§c1390/1390❤     §a730§a❈ Defense     §b183/171✎ Mana§r");
+        assertEquals(2, defenseSection.getParsedCount());
+        skyblockPlayer.getAttributeHistory().setEnabled(false);
+        actionBarParser.parseActionBar("§c1390/1390❤     §a735§a❈ Defense     §b183/171✎ Mana§r");
+        assertEquals(2, defenseSection.getParsedCount());
+    }
+
+    @Test
+    public void parseActionBar_timestamp() throws Exception {
+        ArgumentMatcher<Event> argumentMatcher = argument -> (argument instanceof SkyblockAbilityEvent) && ((SkyblockAbilityEvent) argument).getAbility() == TEST_ABILITY;
+        actionBarParser.subscribe(actionBarParser.getSectionType(ActionBarParser.ABILITY_TRIGGER));
+        skyblockPlayer.getAttributeHistory().setEnabled(true);
+
+        // Everything that depends on the time uses the time the action bar arrived
+        actionBarParser.parseActionBar("§c1390/1390❤     §b-50 Mana (§6Instant Transmission§b)     §b121/171✎ Mana§r", 1000);
+        assertEquals(1000, skyblockPlayer.getAttributeHistory().getTimestamp(0));
+        verify(eventBus, times(1)).post(argThat(argumentMatcher));
+        actionBarParser.parseActionBar("§c1390/1390❤     §b-50 Mana (§6Instant Transmission§b)     §b123/171✎ Mana§r", 1500);
+        verify(eventBus, times(1)).post(argThat(argumentMatcher));
+        // Displayed longer than a single use keeps it
+        actionBarParser.parseActionBar("§c1390/1390❤     §b-50 Mana (§6Instant Transmission§b)     §b125/171✎ Mana§r", 3000);
+        verify(eventBus, times(2)).post(argThat(argumentMatcher));
+        assertEquals(3000, skyblockPlayer.getAttributeHistory().getTimestamp(2));
+    }
+
+    @Test
+    public void parseActionBar_ability() throws Exception {
+        ArgumentMatcher<Event> argumentMatcher = argument -> (argument instanceof SkyblockAbilityEvent) && ((SkyblockAbilityEvent) argument).getAbility() == TEST_ABILITY;
+        String abilityText = "§c1390/1390❤     §b-50 Mana (§6Instant Transmission§b)     §b121/171✎ Mana§r";
+        actionBarParser.subscribe(actionBarParser.getSectionType(ActionBarParser.ABILITY_TRIGGER));
+        actionBarParser.parseActionBar(abilityText);
+        assertStats(1390, 1390, 0, 0, 121, 171);
+        verify(eventBus, times(1)).post(argThat(argumentMatcher));
+
+        // The section stays while the ability is displayed, that isn't another use
+        actionBarParser.parseActionBar("§c1390/1390❤     §b-50 Mana (§6Instant Transmission§b)     §b123/171✎ Mana§r");
+        verify(eventBus, times(1)).post(argThat(argumentMatcher));
+
+        // Using it again while the section is displayed costs mana again
+        actionBarParser.parseActionBar("§c1390/1390❤     §b-50 Mana (§6Instant Transmission§b)     §b75/171✎ Mana§r");
+        verify(eventBus, times(2)).post(argThat(argumentMatcher));
+        actionBarParser.parseActionBar("§c1390/1390❤     §b-50 Mana (§6Instant Transmission§b)     §b25/171✎ Mana§r");
+        verify(eventBus, times(3)).post(argThat(argumentMatcher));
+
+        actionBarParser.parseActionBar("§c1390/1390❤     §b125/171✎ Mana§r");
+        actionBarParser.parseActionBar("§c1390/1390❤     §b-50 Mana (§6Instant Transmission§b)     §b77/171✎ Mana§r");
+        verify(eventBus, times(4)).post(argThat(argumentMatcher));
+
+        actionBarParser.parseActionBar("§c1390/1390❤     §b-20 Mana (§6Unknown Ability§b)     §b57/171✎ Mana§r");
+        verify(eventBus, times(4)).post(any(SkyblockAbilityEvent.class));
+    }
+
+    @Test
+    public void parseActionBar_attributeEvents() throws Exception {
+        ArgumentCaptor<AttributesUpdateEvent> eventCaptor = ArgumentCaptor.forClass(AttributesUpdateEvent.class);
+        actionBarParser.subscribeAttributes();
+
+        actionBarParser.parseActionBar("§c1390/1390❤     §b183/171✎ Mana§r");
+        verify(eventBus, times(1)).post(eventCaptor.capture());
+        AttributesUpdateEvent updateEvent = eventCaptor.getValue();
+        assertEquals(Attributes.HEALTH | Attributes.MAX_HEALTH | Attributes.MANA | Attributes.MAX_MANA, updateEvent.getChangedAttributes());
+        assertEquals(100, updateEvent.getOldValue(Attributes.HEALTH));
+        assertEquals(1390, updateEvent.getNewValue(Attributes.HEALTH));
+        assertEquals(0, updateEvent.getNewValue(Attributes.DEFENCE));
+
+        actionBarParser.parseActionBar("§c1390/1390❤     §b185/171✎ Mana§r");
+        verify(eventBus, times(2)).post(eventCaptor.capture());
+        updateEvent = eventCaptor.getValue();
+        assertEquals(Attributes.MANA, updateEvent.getChangedAttributes());
+        assertEquals(183, updateEvent.getOldValue(Attributes.MANA));
+        assertEquals(185, updateEvent.getNewValue(Attributes.MANA));
+        assertFalse(updateEvent.hasChanged(Attributes.HEALTH | Attributes.WAND_HEALING));
+
+        // Nothing changed, so there is no event
+        actionBarParser.parseActionBar("§c1390/1390❤     §b185/171✎ Mana§r     ");
+        verify(eventBus, times(2)).post(any());
+
+        // Without anyone reading the defense
+        actionBarParser.parseActionBar("§c1390/1390❤     §a720§a❈ Defense     §b185/171✎ Mana§r");
+        verify(eventBus, times(3)).post(eventCaptor.capture());
+        assertEquals(Attributes.DEFENCE, eventCaptor.getValue().getChangedAttributes());
+
+        // Only sections nobody subscribed to wait until they are read
+        skyblockPlayer.getAttributeHistory().setEnabled(false);
+        actionBarParser.unsubscribe(actionBarParser.getSectionType(DEFENSE_TRIGGER));
+        actionBarParser.parseActionBar("§c1390/1390❤     §a725§a❈ Defense     §b185/171✎ Mana§r");
+        verify(eventBus, times(3)).post(any());
+        assertEquals(725, skyblockPlayer.getDefense());
+        verify(eventBus, times(4)).post(eventCaptor.capture());
+    }
+
+    @Test
+    public void parseActionBar_separators() throws Exception {
+        List<String> sections = new ArrayList<>();
+        actionBarParser.setGeneralConsumer(section -> {
+            sections.add(section);
+            return section;
+        });
+
+        // Separators at the start and the end don't make empty sections
+        actionBarParser.parseActionBar("     §c1390/1390❤          §b183/171✎ Mana     ");
+        assertEquals(Arrays.asList("§c1390/1390❤", "§b183/171✎ Mana"), sections);
+        assertEquals(1390, skyblockPlayer.getHealth());
+        assertEquals(183, skyblockPlayer.getMana());
+
+        // Less than 3 spaces don't separate sections, so the first trigger decides the section type
+        sections.clear();
+        actionBarParser.parseActionBar("§c1200/1390❤  §b150/171✎ Mana");
+        assertEquals(Collections.singletonList("§c1200/1390❤  §b150/171✎ Mana"), sections);
+        assertEquals(1200, skyblockPlayer.getHealth());
+        assertEquals(183, skyblockPlayer.getMana());
+
+        // Color codes aren't numbers and grouping separators are part of them
+        sections.clear();
+        actionBarParser.parseActionBar("§c1,390/1,390❤   §a1,020§a❈ Defense");
+        assertEquals(Arrays.asList("§c1,390/1,390❤", "§a1,020§a❈ Defense"), sections);
+        assertEquals(1390, skyblockPlayer.getHealth());
+        assertEquals(1020, skyblockPlayer.getDefense());
+
+        sections.clear();
+        assertEquals("", actionBarParser.parseActionBar(""));
+        assertTrue(sections.isEmpty());
+    }
+
+    @Test
+    public void parseActionBar_identical() throws Exception {
+        String actionBar = "§c1390/1390❤     §b183/171✎ Mana§r";
+        List<String> manaSections = new ArrayList<>();
+        actionBarParser.setManaConsumer(section -> {
+            manaSections.add(section);
+            return null;
+        });
+        String result = actionBarParser.parseActionBar(actionBar);
+        assertEquals("§c1390/1390❤", result);
+        assertEquals(1, manaSections.size());
+
+        // The same text isn't parsed again, even if it's another instance
+        assertSame(result, actionBarParser.parseActionBar(new String(actionBar)));
+        assertEquals(1, manaSections.size());
+
+        // Consumers change the result, so setting one parses the same text again
+        actionBarParser.setManaConsumer(null);
+        assertEquals(actionBar, actionBarParser.parseActionBar(actionBar));
+
+        List<String> sections = new ArrayList<>();
+        actionBarParser.setGeneralConsumer(section -> {
+            sections.add(section);
+            return null;
+        });
+        assertEquals("", actionBarParser.parseActionBar(actionBar));
+        assertEquals(2, sections.size());
+        assertEquals("", actionBarParser.parseActionBar(actionBar));
+        assertEquals(2, sections.size());
+    }
+
+    @Test
+    public void registerSectionParser() throws Exception {
+        List<String> strengthSections = new ArrayList<>();
+        ActionBarSectionType strengthSection = actionBarParser.registerSectionParser("Strength", section -> {
+            strengthSections.add(section.toString());
+            return ActionBarSectionParser.Result.PARSED;
+        }, '❁');
+        assertSame(strengthSection, actionBarParser.getSectionType('❁'));
+        actionBarParser.setSectionConsumer(strengthSection, ActionBarSectionConsumer.REMOVE_SECTION_CONSUMER);
+
+        assertEquals("§b183/171✎ Mana§r", actionBarParser.parseActionBar("§c❁150 Strength     §b183/171✎ Mana§r"));
+        assertEquals(Collections.singletonList("§c❁150 Strength"), strengthSections);
+        assertEquals(183, skyblockPlayer.getMana());
+
+        // Registering a glyph again replaces the section type that had it
+        List<String> manaSections = new ArrayList<>();
+        ActionBarSectionType manaSection = actionBarParser.registerSectionParser("Custom Mana", section -> {
+            manaSections.add(section.toString());
+            return ActionBarSectionParser.Result.PARSED;
+        }, '✎');
+        assertSame(manaSection, actionBarParser.getSectionType('✎'));
+        actionBarParser.parseActionBar("§c❁150 Strength     §b150/171✎ Mana§r");
+        assertEquals(183, skyblockPlayer.getMana());
+        assertEquals(Collections.singletonList("§b150/171✎ Mana§r"), manaSections);
+        assertEquals(2, strengthSections.size());
+    }
+
+    @Test
+    public void sectionConsumer() throws Exception {
+        String actionBar = "§c1390/1390❤     §a720§a❈ Defense     §b183/171✎ Mana§r";
+        actionBarParser.setSectionConsumer(actionBarParser.getSectionType('❈'), (section, replacement) -> ActionBarSectionConsumer.Result.KEEP);
+        actionBarParser.setGeneralSectionConsumer((section, replacement) -> ActionBarSectionConsumer.Result.KEEP);
+        // Nothing changed, so not even a copy of the action bar is made
+        assertSame(actionBar, actionBarParser.parseActionBar(actionBar));
+        actionBarParser.setGeneralSectionConsumer(null);
+
+        actionBarParser.setSectionConsumer(actionBarParser.getSectionType('❤'), ActionBarSectionConsumer.REMOVE_SECTION_CONSUMER);
+        assertEquals("§a720§a❈ Defense     §b183/171✎ Mana§r", actionBarParser.parseActionBar(actionBar));
+
+        actionBarParser.setSectionConsumer(actionBarParser.getSectionType('✎'), (section, replacement) -> {
+            replacement.append("§b").append(skyblockPlayer.getMana()).append(" Mana");
+            return ActionBarSectionConsumer.Result.REPLACE;
+        });
+        assertEquals("§a720§a❈ Defense     §b183 Mana", actionBarParser.parseActionBar(actionBar));
+
+        // The string consumers only replace sections they changed
+        actionBarParser.setDefenseConsumer(section -> section);
+        actionBarParser.setManaConsumer(section -> section.replace("Mana", "MP"));
+        assertEquals("§a720§a❈ Defense     §b183/171✎ MP§r", actionBarParser.parseActionBar(actionBar));
+        actionBarParser.setManaConsumer(section -> null);
+        assertEquals("§a720§a❈ Defense", actionBarParser.parseActionBar(actionBar));
+    }
+
+    private void assertStats(int health, int maxHealth, int wandHealing, int defense, int mana, int maxMana) {
+        assertEquals(health, skyblockPlayer.getHealth());
+        assertEquals(maxHealth, skyblockPlayer.getMaxHealth());
+        assertEquals(wandHealing, skyblockPlayer.getWandHealing());
+        assertEquals(defense, skyblockPlayer.getDefense());
+        assertEquals(mana, skyblockPlayer.getMana());
+        assertEquals(maxMana, skyblockPlayer.getMaxMana());
+    }
+
+    private void assertSkill(String skillName, double increase, double currentProgress, double maxProgress) {
+        SkillUpdate skillUpdate = skyblockPlayer.getLastSkillUpdate();
+        assertNotNull(skillUpdate);
+        assertEquals(skillName, skillUpdate.getSkillName());
+        assertEquals(increase, skillUpdate.getIncrease(), 0);
+        assertEquals(currentProgress, skillUpdate.getCurrentProgress(), 0);
+        assertEquals(maxProgress, skillUpdate.getMaxProgress(), 0);
+    }
+
+    private void assertCharges(int available, int total) {
+        ItemCharges itemCharges = skyblockPlayer.getCurrentItemCharges();
+        assertNotNull(itemCharges);
+        assertEquals(available, itemCharges.getAvailable());
+        assertEquals(total, itemCharges.getTotal());
+    }
+}
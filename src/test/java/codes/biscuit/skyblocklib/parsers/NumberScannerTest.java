@@ -0,0 +1,73 @@
+package codes.biscuit.skyblocklib.parsers;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class NumberScannerTest {
+
+    private NumberScanner numberScanner;
+
+    @Before
+    public void setUp() throws Exception {
+        numberScanner = new NumberScanner();
+    }
+
+    @Test
+    public void scan_integers() throws Exception {
+        assertScanned("1390", 1390, 1390);
+        assertScanned("0", 0, 0);
+        assertScanned("00", 0, 0);
+        assertScanned("600,000", 600000, 600000);
+        assertScanned("1,000", 1000, 1000);
+        assertScanned("12,345,678", 12345678, 12345678);
+        assertFalse(numberScanner.isDecimal());
+    }
+
+    @Test
+    public void scan_decimals() throws Exception {
+        assertScanned("10.9", 10, 10.9);
+        assertScanned("313,937.1", 313937, 313937.1);
+        assertScanned("52.370", 52, 52.37);
+        assertTrue(numberScanner.isDecimal());
+    }
+
+    @Test
+    public void scan_range() throws Exception {
+        String text = "§3+10.9 Combat (313,937.1/600,000)";
+        assertTrue(numberScanner.scan(text, 16, 25));
+        assertEquals(313937.1, numberScanner.getDouble(), 0);
+        assertTrue(numberScanner.scan(text, 26, 33));
+        assertEquals(600000, numberScanner.getInt());
+    }
+
+    @Test
+    public void scan_malformed() throws Exception {
+        assertTrue(numberScanner.scan("1390", 0, 4));
+        assertNotScanned("");
+        assertNotScanned("1,2");
+        assertNotScanned("1,2345");
+        assertNotScanned("1234,567");
+        assertNotScanned("1,,000");
+        assertNotScanned("1.2.3");
+        assertNotScanned("1.");
+        assertNotScanned("1,");
+        assertNotScanned(".5");
+        assertNotScanned("1/2");
+        assertNotScanned("1234567890123456789");
+        // Failing to scan must not leave the previous value behind
+        assertEquals(0, numberScanner.getInt());
+        assertEquals(0, numberScanner.getDouble(), 0);
+    }
+
+    private void assertScanned(String text, int expectedInt, double expectedDouble) {
+        assertTrue(text, numberScanner.scan(text, 0, text.length()));
+        assertEquals(text, expectedInt, numberScanner.getInt());
+        assertEquals(text, expectedDouble, numberScanner.getDouble(), 0);
+    }
+
+    private void assertNotScanned(String text) {
+        assertFalse(text, numberScanner.scan(text, 0, text.length()));
+    }
+}
@@ -0,0 +1,128 @@
+package codes.biscuit.skyblocklib.parsers;
+
+import codes.biscuit.skyblocklib.SkyblockLib;
+import codes.biscuit.skyblocklib.calendar.SkyblockMonth;
+import codes.biscuit.skyblocklib.event.SkyblockJoinedEvent;
+import codes.biscuit.skyblocklib.event.SkyblockLeftEvent;
+import codes.biscuit.skyblocklib.event.SkyblockTimeUpdateEvent;
+import codes.biscuit.skyblocklib.scoreboard.SidebarModel;
+import codes.biscuit.skyblocklib.skyblock.Skyblock;
+import net.minecraftforge.fml.common.eventhandler.EventBus;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(SkyblockLib.class)
+public class ScoreboardParserTest {
+
+    @Mock
+    private EventBus eventBus;
+    @Mock
+    private SidebarModel sidebarModel;
+    private Skyblock skyblock;
+    private ScoreboardParser scoreboardParser;
+
+    @Before
+    public void setUp() throws Exception {
+        MockitoAnnotations.initMocks(this);
+        skyblock = new Skyblock();
+        PowerMockito.mockStatic(SkyblockLib.class);
+        scoreboardParser = new ScoreboardParser(eventBus, skyblock);
+    }
+
+    @Test
+    public void parseSidebar() throws Exception {
+        String[] lines = {" §72:40§2pm", " Late Summer §1§e3rd", "§ewww.hypixel.net"};
+        when(sidebarModel.getTitle()).thenReturn("§e§lSKYBLOCK");
+        when(sidebarModel.getLineCount()).thenReturn(lines.length);
+        when(sidebarModel.getLine(anyInt())).thenAnswer(invocation -> lines[(int) invocation.getArgument(0)]);
+        when(sidebarModel.isLineChanged(anyInt())).thenAnswer(invocation -> (int) invocation.getArgument(0) < lines.length);
+        when(sidebarModel.getChangedLines()).thenReturn(0b111);
+        scoreboardParser.parseSidebar(sidebarModel);
+        assertEquals(SkyblockMonth.LATE_SUMMER, skyblock.getCalendar().getMonth());
+        assertEquals(3, skyblock.getCalendar().getDay());
+        assertEquals(40, skyblock.getCalendar().getMinute());
+
+        // Only the time changed, the date is still known from before
+        lines[0] = " §72:50§2pm";
+        when(sidebarModel.isLineChanged(anyInt())).thenAnswer(invocation -> (int) invocation.getArgument(0) == 0);
+        when(sidebarModel.getChangedLines()).thenReturn(0b1);
+        scoreboardParser.parseSidebar(sidebarModel);
+        verify(sidebarModel, times(1)).getLine(1);
+        assertEquals(3, skyblock.getCalendar().getDay());
+        assertEquals(50, skyblock.getCalendar().getMinute());
+        verify(eventBus, times(2)).post(any(SkyblockTimeUpdateEvent.class));
+
+        scoreboardParser.skipSidebar();
+        assertEquals(2, scoreboardParser.getParsedCount());
+        assertEquals(1, scoreboardParser.getSkippedCount());
+    }
+
+    @Test
+    public void parseSidebar_title() throws Exception {
+        when(sidebarModel.getTitle()).thenReturn("§e§lSKYBLOCK");
+        when(sidebarModel.isTitleChanged()).thenReturn(true);
+        scoreboardParser.parseSidebar(sidebarModel);
+        verify(eventBus, times(1)).post(any(SkyblockJoinedEvent.class));
+        skyblock.setOnSkyblock(true);
+
+        // A change of only the title counts as parsed as well
+        when(sidebarModel.getTitle()).thenReturn("§e§lBED WARS");
+        scoreboardParser.parseSidebar(sidebarModel);
+        verify(eventBus, times(1)).post(any(SkyblockLeftEvent.class));
+        verify(sidebarModel, never()).getLine(anyInt());
+        assertEquals(2, scoreboardParser.getParsedCount());
+    }
+
+    @Test
+    public void parseSidebar_otherTitle() throws Exception {
+        String[] lines = {"Purse: §6100", "§ewww.hypixel.net"};
+        when(sidebarModel.getLineCount()).thenReturn(lines.length);
+        when(sidebarModel.getLine(anyInt())).thenAnswer(invocation -> lines[(int) invocation.getArgument(0)]);
+        when(sidebarModel.isLineChanged(anyInt())).thenAnswer(invocation -> (int) invocation.getArgument(0) < lines.length);
+        when(sidebarModel.getChangedLines()).thenReturn(0b11);
+
+        // Lines of other sidebars aren't parsed
+        when(sidebarModel.getTitle()).thenReturn("§e§lBED WARS");
+        scoreboardParser.parseSidebar(sidebarModel);
+        verify(sidebarModel, never()).getLine(anyInt());
+        assertEquals(-1, skyblock.getScoreboard().getPurse(), 0);
+
+        // The first Skyblock sidebar after it parses all lines, even the ones that didn't change
+        when(sidebarModel.getTitle()).thenReturn("§e§lSKYBLOCK");
+        when(sidebarModel.isLineChanged(anyInt())).thenReturn(false);
+        when(sidebarModel.getChangedLines()).thenReturn(0);
+        scoreboardParser.parseSidebar(sidebarModel);
+        assertEquals(100, skyblock.getScoreboard().getPurse(), 0);
+    }
+
+    @Test
+    public void isSkyblockScoreboard() throws Exception {
+        assertTrue(ScoreboardParser.isSkyblockScoreboard("SKYBLOCK"));
+        assertTrue(ScoreboardParser.isSkyblockScoreboard("SKYBLOCK CO-OP"));
+        assertTrue(ScoreboardParser.isSkyblockScoreboard("空岛生存"));
+        assertFalse(ScoreboardParser.isSkyblockScoreboard("BED WARS"));
+        assertTrue(ScoreboardParser.isSkyblockScoreboard("§e§lSKYBLOCK"));
+        assertTrue(ScoreboardParser.isSkyblockScoreboard("§e§lSKY§6BLOCK §b§lCO-OP"));
+        assertFalse(ScoreboardParser.isSkyblockScoreboard("SKY"));
+        assertFalse(ScoreboardParser.isSkyblockScoreboard("§e§lSKYWARS"));
+        assertFalse(ScoreboardParser.isSkyblockScoreboard(""));
+    }
+
+    @Test
+    public void isSkyblockTitle() throws Exception {
+        assertTrue(scoreboardParser.isSkyblockTitle("§e§lSKYBLOCK"));
+        assertTrue(scoreboardParser.isSkyblockTitle("§e§lSKYBLOCK"));
+        assertFalse(scoreboardParser.isSkyblockTitle("§e§lBED WARS"));
+        assertTrue(scoreboardParser.isSkyblockTitle("§e§lSKYBLOCK"));
+    }
+}
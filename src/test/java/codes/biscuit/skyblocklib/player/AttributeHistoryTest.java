@@ -0,0 +1,104 @@
+package codes.biscuit.skyblocklib.player;
+
+import codes.biscuit.skyblocklib.SkyblockLib;
+import codes.biscuit.skyblocklib.event.AttributesUpdateEvent;
+import codes.biscuit.skyblocklib.parsers.ActionBarParser;
+import codes.biscuit.skyblocklib.parsers.ActionBarSectionType;
+import net.minecraftforge.fml.common.eventhandler.EventBus;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class AttributeHistoryTest {
+
+    private AttributeHistory attributeHistory;
+
+    @Before
+    public void setUp() throws Exception {
+        attributeHistory = new AttributeHistory(4);
+        attributeHistory.setEnabled(true);
+    }
+
+    @Test
+    public void windowQueries() throws Exception {
+        add(1000, 1000);
+        add(2000, 800);
+        add(3000, 900);
+        add(4000, 500);
+
+        // The window starting at 2500 includes the 800 that was valid at that time
+        assertEquals(500, attributeHistory.getMin(Attributes.HEALTH, 2500));
+        assertEquals(900, attributeHistory.getMax(Attributes.HEALTH, 2500));
+        assertEquals(720, attributeHistory.getAverage(Attributes.HEALTH, 2500, 5000), 0.001);
+        assertEquals(-300, attributeHistory.getDelta(Attributes.HEALTH, 2500));
+        assertEquals(-500, attributeHistory.getDelta(Attributes.HEALTH, 0));
+        assertEquals(0, attributeHistory.getDelta(Attributes.HEALTH, 5000));
+        assertEquals(0, attributeHistory.getDelta(Attributes.MANA, 0));
+    }
+
+    @Test
+    public void averageUnevenSpacing() throws Exception {
+        add(1000, 1000);
+        add(1100, 100);
+        add(1200, 1000);
+        add(9000, 500);
+
+        // The 100 only held for 100ms, so it barely counts compared to the 1000 before the 500
+        assertEquals(982.716, attributeHistory.getAverage(Attributes.HEALTH, 1000, 9100), 0.001);
+        assertEquals(1000, attributeHistory.getAverage(Attributes.HEALTH, 1200, 9000), 0.001);
+        assertEquals(750, attributeHistory.getAverage(Attributes.HEALTH, 8000, 10000), 0.001);
+        // A window without any time is the value at that time
+        assertEquals(100, attributeHistory.getAverage(Attributes.HEALTH, 1150, 1150), 0.001);
+    }
+
+    @Test
+    public void capacity() throws Exception {
+        for (int i = 1; i <= 6; i++) {
+            add(i * 1000, i * 100);
+        }
+        assertEquals(4, attributeHistory.size());
+        assertEquals(3000, attributeHistory.getTimestamp(0));
+        assertEquals(300, attributeHistory.getMin(Attributes.HEALTH, 0));
+
+        attributeHistory.setCapacity(2);
+        assertEquals(2, attributeHistory.size());
+        assertEquals(500, attributeHistory.getValue(Attributes.HEALTH, 0));
+        assertEquals(600, attributeHistory.getValue(Attributes.HEALTH, 1));
+
+        add(7000, 700);
+        assertEquals(600, attributeHistory.getMin(Attributes.HEALTH, 0));
+        assertEquals(100, attributeHistory.getDelta(Attributes.HEALTH, 0));
+    }
+
+    @Test
+    public void enabled() throws Exception {
+        assertFalse(new AttributeHistory(4).isEnabled());
+
+        ActionBarParser actionBarParser = new ActionBarParser(mock(SkyblockLib.class), new SkyblockPlayer(), mock(EventBus.class));
+        ActionBarSectionType healthSection = actionBarParser.getSectionType(ActionBarParser.HEALTH_TRIGGER);
+        attributeHistory.setActionBarParser(actionBarParser);
+        assertTrue(healthSection.hasSubscribers());
+
+        attributeHistory.setEnabled(false);
+        assertFalse(healthSection.hasSubscribers());
+        add(1000, 1000);
+        assertEquals(0, attributeHistory.size());
+
+        attributeHistory.setEnabled(true);
+        assertTrue(healthSection.hasSubscribers());
+        add(2000, 800);
+        assertEquals(1, attributeHistory.size());
+
+        // The subscription moves along with the parser
+        attributeHistory.setActionBarParser(null);
+        assertFalse(healthSection.hasSubscribers());
+    }
+
+    private void add(long timestamp, int health) {
+        int[] values = new int[Attributes.COUNT];
+        values[Integer.numberOfTrailingZeros(Attributes.HEALTH)] = health;
+        attributeHistory.add(timestamp, new AttributesUpdateEvent(Attributes.HEALTH, new int[Attributes.COUNT], values));
+    }
+}
@@ -0,0 +1,98 @@
+package codes.biscuit.skyblocklib.player;
+
+import codes.biscuit.skyblocklib.SkyblockLib;
+import codes.biscuit.skyblocklib.managers.AbilityAnnouncements;
+import codes.biscuit.skyblocklib.managers.ItemAbilityFile;
+import codes.biscuit.skyblocklib.model.SkyblockItemAbility;
+import codes.biscuit.skyblocklib.parsers.ActionBarParser;
+import net.minecraftforge.fml.common.eventhandler.EventBus;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(SkyblockLib.class)
+public class AttributePredictorTest {
+
+    private final SkyblockItemAbility TEST_ABILITY = new SkyblockItemAbility("Test Ability", 0, 50, "TEST_ITEM", null);
+
+    @Mock
+    private SkyblockLib skyblockLib;
+    @Mock
+    private EventBus eventBus;
+    private ActionBarParser actionBarParser;
+    private AttributePredictor attributePredictor;
+
+    @Before
+    public void setUp() throws Exception {
+        MockitoAnnotations.initMocks(this);
+        when(skyblockLib.getItemAbilityFile()).thenReturn(ItemAbilityFile.fromAbilityMap(Collections.emptyMap()));
+        when(skyblockLib.getAbilityAnnouncements()).thenReturn(new AbilityAnnouncements());
+        SkyblockPlayer skyblockPlayer = new SkyblockPlayer();
+        PowerMockito.mockStatic(SkyblockLib.class);
+        actionBarParser = new ActionBarParser(skyblockLib, skyblockPlayer, eventBus);
+        skyblockPlayer.setActionBarParser(actionBarParser);
+        attributePredictor = skyblockPlayer.getAttributePredictor();
+    }
+
+    @Test
+    public void predict() throws Exception {
+        actionBarParser.parseActionBar("§c900/1000❤+§c20▅     §b100/500✎ Mana§r");
+        tick(1);
+        assertEquals(900, attributePredictor.getHealth());
+        assertEquals(100, attributePredictor.getMana());
+
+        // 2% of the maximum mana and the wand healing per second
+        tick(20);
+        assertEquals(920, attributePredictor.getHealth());
+        assertEquals(110, attributePredictor.getMana());
+
+        attributePredictor.onAbilityUsed(TEST_ABILITY);
+        assertEquals(60, attributePredictor.getMana());
+        // Used again right away
+        attributePredictor.onAbilityUsed(TEST_ABILITY);
+        assertEquals(10, attributePredictor.getMana());
+
+        actionBarParser.parseActionBar("§c921/1000❤+§c20▅     §b12/500✎ Mana§r");
+        tick(1);
+        assertEquals(921, attributePredictor.getHealth());
+        assertEquals(12, attributePredictor.getMana());
+        assertEquals(1, attributePredictor.getResyncCount());
+        assertEquals(1, attributePredictor.getAverageHealthError(), 0.001);
+        assertEquals(2, attributePredictor.getAverageManaError(), 0.001);
+    }
+
+    @Test
+    public void predict_resyncInterval() throws Exception {
+        attributePredictor.setResyncInterval(2);
+        actionBarParser.parseActionBar("§c1000/1000❤     §b490/500✎ Mana§r");
+        tick(1);
+
+        // Only every second action bar is used, the prediction stops at the maximum
+        actionBarParser.parseActionBar("§c1000/1000❤     §b495/500✎ Mana§r");
+        tick(20);
+        assertEquals(500, attributePredictor.getMana());
+        assertEquals(0, attributePredictor.getResyncCount());
+
+        actionBarParser.parseActionBar("§c1000/1000❤     §b470/500✎ Mana§r");
+        tick(1);
+        assertEquals(470, attributePredictor.getMana());
+        assertEquals(1, attributePredictor.getResyncCount());
+    }
+
+    private void tick(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            attributePredictor.tick();
+        }
+    }
+}
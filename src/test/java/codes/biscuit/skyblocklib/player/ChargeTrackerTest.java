@@ -0,0 +1,64 @@
+package codes.biscuit.skyblocklib.player;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ChargeTrackerTest {
+
+    private static final String ZOMBIE_SWORD = "ZOMBIE_SWORD";
+    private static final String SCORPION_FOIL = "SCORPION_FOIL";
+
+    private ChargeTracker chargeTracker;
+
+    @Before
+    public void setUp() throws Exception {
+        chargeTracker = new ChargeTracker();
+        chargeTracker.setEnabled(true);
+    }
+
+    @Test
+    public void rechargeTime() throws Exception {
+        chargeTracker.update(ZOMBIE_SWORD, 4, 4, 1000);
+        chargeTracker.update(ZOMBIE_SWORD, 3, 4, 2000);
+        chargeTracker.update(ZOMBIE_SWORD, 2, 4, 3000);
+        assertEquals(-1, chargeTracker.getRechargeMillis(ZOMBIE_SWORD));
+        assertEquals(-1, chargeTracker.getNextChargeTime(ZOMBIE_SWORD));
+
+        // The timer started with the first used charge
+        chargeTracker.update(ZOMBIE_SWORD, 3, 4, 12000);
+        assertEquals(10000, chargeTracker.getRechargeMillis(ZOMBIE_SWORD));
+        assertEquals(22000, chargeTracker.getNextChargeTime(ZOMBIE_SWORD));
+        assertEquals(22000, chargeTracker.getFullChargesTime(ZOMBIE_SWORD));
+        assertEquals(5000, chargeTracker.getMillisToNextCharge(17000));
+
+        chargeTracker.update(ZOMBIE_SWORD, 4, 4, 24000);
+        assertEquals(2, chargeTracker.getSampleCount(ZOMBIE_SWORD));
+        assertEquals(11000, chargeTracker.getRechargeMillis(ZOMBIE_SWORD));
+        assertEquals(-1, chargeTracker.getNextChargeTime(ZOMBIE_SWORD));
+
+        chargeTracker.update(ZOMBIE_SWORD, 2, 4, 30000);
+        assertEquals(41000, chargeTracker.getNextChargeTime(ZOMBIE_SWORD));
+        assertEquals(52000, chargeTracker.getFullChargesTime(ZOMBIE_SWORD));
+    }
+
+    @Test
+    public void items() throws Exception {
+        chargeTracker.update(ZOMBIE_SWORD, 4, 4, 1000);
+        chargeTracker.update(ZOMBIE_SWORD, 3, 4, 2000);
+        chargeTracker.update(SCORPION_FOIL, 4, 4, 3000);
+        assertEquals(SCORPION_FOIL, chargeTracker.getCurrentItemId());
+        assertEquals(-1, chargeTracker.getMillisToNextCharge(3000));
+
+        // Charges that came back while the item wasn't held don't give a recharge time
+        chargeTracker.update(ZOMBIE_SWORD, 4, 4, 20000);
+        assertEquals(0, chargeTracker.getSampleCount(ZOMBIE_SWORD));
+
+        for (int i = 0; i < ChargeTracker.MAX_ITEMS; i++) {
+            chargeTracker.update("ITEM_" + i, 1, 1, 30000 + i);
+        }
+        assertEquals(0, chargeTracker.getSampleCount(ZOMBIE_SWORD));
+        assertEquals("ITEM_" + (ChargeTracker.MAX_ITEMS - 1), chargeTracker.getCurrentItemId());
+    }
+}
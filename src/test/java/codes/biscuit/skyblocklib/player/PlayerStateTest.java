@@ -0,0 +1,81 @@
+package codes.biscuit.skyblocklib.player;
+
+import codes.biscuit.skyblocklib.model.ItemCharges;
+import codes.biscuit.skyblocklib.parsers.ActionBarParser;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class PlayerStateTest {
+
+    private SkyblockPlayer skyblockPlayer;
+
+    @Before
+    public void setUp() throws Exception {
+        skyblockPlayer = new SkyblockPlayer();
+    }
+
+    @Test
+    public void publish() throws Exception {
+        PlayerState state = skyblockPlayer.getState();
+        skyblockPlayer.getAttributes().setHealth(500);
+        skyblockPlayer.setCurrentItemCharges(new ItemCharges(3, 4));
+        skyblockPlayer.publishState();
+
+        PlayerSnapshot snapshot = state.read(new PlayerSnapshot());
+        assertEquals(2, snapshot.getVersion());
+        assertEquals(500, snapshot.getHealth());
+        assertEquals(3, snapshot.getAvailableCharges());
+        assertNull(snapshot.getSkill());
+
+        // Nothing changes until it's published again
+        skyblockPlayer.getAttributes().setHealth(600);
+        assertEquals(500, state.read(snapshot).getHealth());
+    }
+
+    @Test
+    public void publish_pendingSections() throws Exception {
+        ActionBarParser actionBarParser = mock(ActionBarParser.class);
+        skyblockPlayer.setActionBarParser(actionBarParser);
+        PlayerState state = skyblockPlayer.getState();
+        skyblockPlayer.getAttributes().setMana(300);
+        skyblockPlayer.publishState();
+
+        // Publishing doesn't parse sections that nothing subscribed to
+        verify(actionBarParser, never()).parsePendingSection(anyChar());
+        assertEquals(300, state.read(new PlayerSnapshot()).getMana());
+    }
+
+    @Test
+    public void publish_concurrentReads() throws Exception {
+        PlayerState state = skyblockPlayer.getState();
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<String> inconsistency = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            PlayerSnapshot snapshot = new PlayerSnapshot();
+            while (running.get()) {
+                state.read(snapshot);
+                if (snapshot.getHealth() != snapshot.getMaxHealth() || snapshot.getMana() != snapshot.getHealth()) {
+                    inconsistency.set(snapshot.getHealth() + "/" + snapshot.getMaxHealth() + " " + snapshot.getMana());
+                }
+            }
+        });
+        reader.start();
+
+        Attributes attributes = skyblockPlayer.getAttributes();
+        for (int i = 0; i < 200000; i++) {
+            attributes.setHealth(i);
+            attributes.setMaxHealth(i);
+            attributes.setMana(i);
+            skyblockPlayer.publishState();
+        }
+        running.set(false);
+        reader.join();
+        assertNull(inconsistency.get());
+    }
+}
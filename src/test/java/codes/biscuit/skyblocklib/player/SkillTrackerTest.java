@@ -0,0 +1,39 @@
+package codes.biscuit.skyblocklib.player;
+
+import codes.biscuit.skyblocklib.model.Skill;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SkillTrackerTest {
+
+    private SkillTracker skillTracker;
+
+    @Before
+    public void setUp() throws Exception {
+        skillTracker = new SkillTracker();
+    }
+
+    @Test
+    public void xpPerHour() throws Exception {
+        skillTracker.update(Skill.COMBAT, 10, 100, 1000, 1000);
+        assertEquals(0, skillTracker.getXpPerHour(Skill.COMBAT, 1000), 0);
+        assertEquals(-1, skillTracker.getMillisToNextLevel(Skill.COMBAT, 1000));
+
+        // 20 XP earned over 60 seconds since the first message
+        skillTracker.update(Skill.COMBAT, 10, 110, 1000, 31000);
+        skillTracker.update(Skill.MINING, 5, 50, 200, 45000);
+        skillTracker.update(Skill.COMBAT, 10, 120, 1000, 61000);
+        assertEquals(1200, skillTracker.getXpPerHour(Skill.COMBAT, 61000), 0.001);
+        assertEquals(880 * 3000, skillTracker.getMillisToNextLevel(Skill.COMBAT, 61000));
+
+        // Other skills keep their progress
+        assertEquals(Skill.COMBAT, skillTracker.getLastSkill());
+        assertEquals(50, skillTracker.getCurrentProgress(Skill.MINING), 0);
+        assertFalse(skillTracker.hasProgress(Skill.FARMING));
+
+        // Only the last 10 minutes count
+        assertEquals(0, skillTracker.getXpPerHour(Skill.COMBAT, 61000 + 10 * 60 * 1000), 0);
+    }
+}
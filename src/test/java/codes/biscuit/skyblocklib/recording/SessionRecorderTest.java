@@ -0,0 +1,106 @@
+package codes.biscuit.skyblocklib.recording;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class SessionRecorderTest {
+
+    private static final String ACTION_BAR = "§c1390/1390❤     §a720§a❈ Defense     §b183/171✎ Mana§r";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File directory;
+    private SessionRecorder sessionRecorder;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = temporaryFolder.newFolder("recordings");
+        // Prepare the next files right away instead of on a background thread
+        sessionRecorder = new SessionRecorder(Runnable::run);
+    }
+
+    @Test
+    public void record() throws Exception {
+        sessionRecorder.start(directory);
+        sessionRecorder.tick();
+        sessionRecorder.recordActionBar(ACTION_BAR);
+        sessionRecorder.recordChat("§r§aUsed §r§6Instant Transmission§r§a! §r§b(50 Mana)§r");
+        sessionRecorder.recordScoreboard("§e§lSKYBLOCK", Arrays.asList(" Late Summer 3rd", " 2:40pm"));
+        // Unchanged scoreboards aren't recorded again
+        sessionRecorder.tick();
+        sessionRecorder.recordScoreboard("§e§lSKYBLOCK", Arrays.asList(" Late Summer 3rd", " 2:40pm"));
+        sessionRecorder.stop();
+        assertEquals(5, sessionRecorder.getRecordCount());
+
+        File[] files = directory.listFiles();
+        assertNotNull(files);
+        assertEquals(1, files.length);
+        SessionRecordReader reader = new SessionRecordReader(files[0]);
+        assertTrue(reader.next());
+        assertEquals(SessionRecordFormat.TICK, reader.getType());
+        assertEquals(1, reader.getTick());
+        assertTrue(reader.next());
+        assertEquals(SessionRecordFormat.ACTION_BAR, reader.getType());
+        assertEquals(ACTION_BAR, reader.getText());
+        assertTrue(reader.next());
+        assertEquals(SessionRecordFormat.CHAT, reader.getType());
+        assertTrue(reader.next());
+        assertEquals(SessionRecordFormat.SCOREBOARD, reader.getType());
+        assertEquals("§e§lSKYBLOCK", reader.getText());
+        assertEquals(Arrays.asList(" Late Summer 3rd", " 2:40pm"), reader.getLines());
+        assertTrue(reader.next());
+        assertEquals(SessionRecordFormat.TICK, reader.getType());
+        assertEquals(2, reader.getTick());
+        assertFalse(reader.next());
+    }
+
+    @Test
+    public void rotate() throws Exception {
+        sessionRecorder.setMaxFileSize(SessionRecorder.MIN_MAX_FILE_SIZE);
+        sessionRecorder.start(directory);
+        for (int i = 0; i < 100; i++) {
+            sessionRecorder.tick();
+            sessionRecorder.recordActionBar(ACTION_BAR);
+        }
+        assertEquals(0, sessionRecorder.getDroppedRecords());
+
+        File[] files = directory.listFiles();
+        assertNotNull(files);
+        Arrays.sort(files);
+        assertTrue(files.length > 1);
+        int actionBars = 0;
+        int lastTick = 0;
+        for (int i = 0; i < files.length; i++) {
+            assertEquals(SessionRecorder.MIN_MAX_FILE_SIZE, files[i].length());
+            SessionRecordReader reader = new SessionRecordReader(files[i]);
+            assertEquals(i, reader.getFileIndex());
+            while (reader.next()) {
+                assertTrue(reader.getTick() >= lastTick);
+                lastTick = reader.getTick();
+                if (reader.getType() == SessionRecordFormat.ACTION_BAR) {
+                    assertEquals(ACTION_BAR, reader.getText());
+                    actionBars++;
+                }
+            }
+        }
+        assertEquals(100, actionBars);
+    }
+
+    @Test
+    public void notStarted() throws Exception {
+        sessionRecorder.tick();
+        sessionRecorder.recordActionBar(ACTION_BAR);
+        sessionRecorder.recordScoreboard("§e§lSKYBLOCK", Collections.emptyList());
+        assertEquals(0, sessionRecorder.getRecordCount());
+        assertFalse(sessionRecorder.isStarted());
+    }
+}
@@ -0,0 +1,76 @@
+package codes.biscuit.skyblocklib.recording;
+
+import codes.biscuit.skyblocklib.SkyblockLib;
+import codes.biscuit.skyblocklib.managers.ItemAbilityFile;
+import codes.biscuit.skyblocklib.model.SkyblockItemAbility;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(SkyblockLib.class)
+@PowerMockIgnore("javax.management.*")
+public class SessionReplayTest {
+
+    private final String TEST_KEY = "Instant Transmission";
+    private final SkyblockItemAbility TEST_ABILITY = new SkyblockItemAbility(TEST_KEY, 0, 50, "ASPECT_OF_THE_END", null);
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private SessionReplay sessionReplay;
+
+    @Before
+    public void setUp() throws Exception {
+        PowerMockito.mockStatic(SkyblockLib.class);
+        sessionReplay = new SessionReplay(ItemAbilityFile.fromAbilityMap(Collections.singletonMap(TEST_KEY, TEST_ABILITY)));
+    }
+
+    @Test
+    public void replay() throws Exception {
+        File directory = temporaryFolder.newFolder("recordings");
+        SessionRecorder sessionRecorder = new SessionRecorder(Runnable::run);
+        sessionRecorder.start(directory);
+        sessionRecorder.tick();
+        // Not on Skyblock yet, so this isn't parsed
+        sessionRecorder.recordActionBar("§c100/100❤     §b100/100✎ Mana§r");
+        sessionRecorder.recordScoreboard("§e§lSKYBLOCK", Arrays.asList(" Late Summer 3rd", " 2:40pm"));
+        sessionRecorder.tick();
+        sessionRecorder.recordActionBar("§c1390/1390❤     §b183/171✎ Mana§r");
+        sessionRecorder.tick();
+        sessionRecorder.recordActionBar("§c1390/1390❤     §b-50 Mana (§6Instant Transmission§b)     §b133/171✎ Mana§r");
+        sessionRecorder.recordChat("§r§aUsed §r§6Instant Transmission§r§a! §r§b(50 Mana)§r");
+        sessionRecorder.stop();
+
+        File[] files = directory.listFiles();
+        assertNotNull(files);
+        sessionReplay.load(files[0]);
+        assertEquals(8, sessionReplay.getRecordCount());
+        sessionReplay.run();
+        assertEquals(5, sessionReplay.getMessageCount());
+
+        StringWriter eventLog = new StringWriter();
+        sessionReplay.writeEventLog(eventLog);
+        // The replay has its own instances
+        PowerMockito.verifyZeroInteractions(SkyblockLib.class);
+        assertEquals(String.format("1 SkyblockJoinedEvent%n"
+                + "1 SkyblockTimeUpdateEvent Late Summer 3rd, 2:40pm%n"
+                + "2 AttributesUpdateEvent health=100->1390 maxHealth=100->1390 mana=100->183 maxMana=100->171%n"
+                + "3 SkyblockAbilityEvent Instant Transmission%n"
+                + "3 AttributesUpdateEvent mana=183->133%n"), eventLog.toString());
+        assertNotNull(sessionReplay.getSummary());
+    }
+}
@@ -0,0 +1,176 @@
+package codes.biscuit.skyblocklib.scoreboard;
+
+import net.minecraft.network.play.server.S01PacketJoinGame;
+import net.minecraft.network.play.server.S3BPacketScoreboardObjective;
+import net.minecraft.network.play.server.S3CPacketUpdateScore;
+import net.minecraft.network.play.server.S3DPacketDisplayScoreboard;
+import net.minecraft.network.play.server.S3EPacketTeams;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class SidebarModelTest {
+
+    private SidebarModel sidebarModel;
+
+    @Before
+    public void setUp() throws Exception {
+        sidebarModel = new SidebarModel();
+    }
+
+    @Test
+    public void update() throws Exception {
+        assertFalse(sidebarModel.update());
+        assertNull(sidebarModel.getTitle());
+
+        sidebarModel.enqueue(objective("SBScoreboard", "§e§lSKYBLOCK", 0));
+        sidebarModel.enqueue(display(1, "SBScoreboard"));
+        sidebarModel.enqueue(team("team_2", 0, " Late Summer ", "§e3rd", "§1"));
+        sidebarModel.enqueue(team("team_1", 0, " §72:40", "pm", "§2"));
+        sidebarModel.enqueue(score("§1", "SBScoreboard", 2, S3CPacketUpdateScore.Action.CHANGE));
+        sidebarModel.enqueue(score("§2", "SBScoreboard", 1, S3CPacketUpdateScore.Action.CHANGE));
+        sidebarModel.enqueue(score("#hidden", "SBScoreboard", 3, S3CPacketUpdateScore.Action.CHANGE));
+        sidebarModel.enqueue(score("§3", "OtherObjective", 3, S3CPacketUpdateScore.Action.CHANGE));
+        assertTrue(sidebarModel.update());
+        assertTrue(sidebarModel.isTitleChanged());
+        assertEquals("§e§lSKYBLOCK", sidebarModel.getTitle());
+        assertEquals(Arrays.asList(" §72:40§2pm", " Late Summer §1§e3rd"), sidebarModel.getLines());
+        assertEquals(0b11, sidebarModel.getChangedLines());
+
+        // Nothing happened
+        assertFalse(sidebarModel.update());
+
+        // Only the time line changes
+        sidebarModel.enqueue(team("team_1", 2, " §72:50", "pm", null));
+        assertTrue(sidebarModel.update());
+        assertFalse(sidebarModel.isTitleChanged());
+        assertTrue(sidebarModel.isLineChanged(0));
+        assertFalse(sidebarModel.isLineChanged(1));
+        assertEquals(" §72:50§2pm", sidebarModel.getLine(0));
+
+        sidebarModel.enqueue(score("§2", "SBScoreboard", 0, S3CPacketUpdateScore.Action.REMOVE));
+        assertTrue(sidebarModel.update());
+        assertEquals(1, sidebarModel.getLineCount());
+        assertEquals(0b11, sidebarModel.getChangedLines());
+        assertEquals(" Late Summer §1§e3rd", sidebarModel.getLine(0));
+
+        // A new world has a new scoreboard
+        sidebarModel.enqueue(mock(S01PacketJoinGame.class));
+        assertTrue(sidebarModel.update());
+        assertTrue(sidebarModel.isTitleChanged());
+        assertNull(sidebarModel.getTitle());
+        assertEquals(0, sidebarModel.getLineCount());
+    }
+
+    @Test
+    public void maxLines() throws Exception {
+        sidebarModel.enqueue(objective("SBScoreboard", "§e§lSKYBLOCK", 0));
+        sidebarModel.enqueue(display(1, "SBScoreboard"));
+        for (int i = 0; i < 20; i++) {
+            sidebarModel.enqueue(score("line" + i, "SBScoreboard", i, S3CPacketUpdateScore.Action.CHANGE));
+        }
+        sidebarModel.update();
+        assertEquals(SidebarModel.MAX_LINES, sidebarModel.getLineCount());
+        // The lowest scores don't fit
+        assertEquals("line5", sidebarModel.getLine(0));
+        assertEquals("line19", sidebarModel.getLine(SidebarModel.MAX_LINES - 1));
+
+        sidebarModel.enqueue(objective("SBScoreboard", "", 1));
+        assertTrue(sidebarModel.update());
+        assertNull(sidebarModel.getTitle());
+        assertEquals(0, sidebarModel.getLineCount());
+    }
+
+    @Test
+    public void formattedLineCache() throws Exception {
+        sidebarModel.enqueue(objective("SBScoreboard", "§e§lSKYBLOCK", 0));
+        sidebarModel.enqueue(display(1, "SBScoreboard"));
+        sidebarModel.enqueue(team("team_1", 0, " Purse: ", "§6100", "§1"));
+        sidebarModel.enqueue(score("§1", "SBScoreboard", 1, S3CPacketUpdateScore.Action.CHANGE));
+        sidebarModel.enqueue(score("§2", "SBScoreboard", 2, S3CPacketUpdateScore.Action.CHANGE));
+        sidebarModel.enqueue(score("§3", "SBScoreboard", 2, S3CPacketUpdateScore.Action.CHANGE));
+        sidebarModel.update();
+        // Same score, the name decides in reverse
+        assertEquals(Arrays.asList(" Purse: §1§6100", "§3", "§2"), sidebarModel.getLines());
+        String purse = sidebarModel.getLine(0);
+
+        // Another line moves, the purse line isn't formatted again
+        sidebarModel.enqueue(score("§3", "SBScoreboard", 0, S3CPacketUpdateScore.Action.CHANGE));
+        assertTrue(sidebarModel.update());
+        assertEquals(Arrays.asList("§3", " Purse: §1§6100", "§2"), sidebarModel.getLines());
+        assertSame(purse, sidebarModel.getLine(1));
+
+        // An update with the same prefix and suffix doesn't change anything
+        sidebarModel.enqueue(team("team_1", 2, " Purse: ", "§6100", null));
+        assertFalse(sidebarModel.update());
+        assertSame(purse, sidebarModel.getLine(1));
+
+        sidebarModel.enqueue(team("team_1", 2, " Purse: ", "§6150", null));
+        assertTrue(sidebarModel.update());
+        assertEquals(0b10, sidebarModel.getChangedLines());
+        assertEquals(" Purse: §1§6150", sidebarModel.getLine(1));
+    }
+
+    @Test
+    public void replay() throws Exception {
+        sidebarModel.replay("§e§lSKYBLOCK", Arrays.asList(" §72:40pm", " Late Summer 3rd"));
+        assertTrue(sidebarModel.update());
+        assertTrue(sidebarModel.isTitleChanged());
+        assertEquals("§e§lSKYBLOCK", sidebarModel.getTitle());
+        assertEquals(0b11, sidebarModel.getChangedLines());
+
+        // Only the lines that are different change
+        sidebarModel.replay("§e§lSKYBLOCK", Arrays.asList(" §72:50pm", " Late Summer 3rd"));
+        assertTrue(sidebarModel.update());
+        assertFalse(sidebarModel.isTitleChanged());
+        assertEquals(0b1, sidebarModel.getChangedLines());
+
+        sidebarModel.replay("§e§lSKYBLOCK", Arrays.asList(" §72:50pm", " Late Summer 3rd"));
+        assertFalse(sidebarModel.update());
+
+        sidebarModel.replay("§e§lBED WARS", Collections.singletonList(" §72:50pm"));
+        assertTrue(sidebarModel.update());
+        assertTrue(sidebarModel.isTitleChanged());
+        assertEquals(0b10, sidebarModel.getChangedLines());
+        assertEquals(1, sidebarModel.getLineCount());
+    }
+
+    private static S3BPacketScoreboardObjective objective(String name, String displayName, int mode) {
+        S3BPacketScoreboardObjective packet = mock(S3BPacketScoreboardObjective.class);
+        when(packet.func_149339_c()).thenReturn(name);
+        when(packet.func_149337_d()).thenReturn(displayName);
+        when(packet.func_149338_e()).thenReturn(mode);
+        return packet;
+    }
+
+    private static S3DPacketDisplayScoreboard display(int slot, String objective) {
+        S3DPacketDisplayScoreboard packet = mock(S3DPacketDisplayScoreboard.class);
+        when(packet.func_149371_c()).thenReturn(slot);
+        when(packet.func_149370_d()).thenReturn(objective);
+        return packet;
+    }
+
+    private static S3CPacketUpdateScore score(String player, String objective, int value, S3CPacketUpdateScore.Action action) {
+        S3CPacketUpdateScore packet = mock(S3CPacketUpdateScore.class);
+        when(packet.getPlayerName()).thenReturn(player);
+        when(packet.getObjectiveName()).thenReturn(objective);
+        when(packet.getScoreValue()).thenReturn(value);
+        when(packet.getScoreAction()).thenReturn(action);
+        return packet;
+    }
+
+    private static S3EPacketTeams team(String name, int action, String prefix, String suffix, String player) {
+        S3EPacketTeams packet = mock(S3EPacketTeams.class);
+        when(packet.getName()).thenReturn(name);
+        when(packet.getAction()).thenReturn(action);
+        when(packet.getPrefix()).thenReturn(prefix);
+        when(packet.getSuffix()).thenReturn(suffix);
+        when(packet.getPlayers()).thenReturn(player == null ? Collections.emptyList() : Collections.singletonList(player));
+        return packet;
+    }
+}
@@ -0,0 +1,106 @@
+package codes.biscuit.skyblocklib.scoreboard;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SkyblockScoreboardTest {
+
+    private static final List<String> LINES = Arrays.asList(
+            "§ewww.hypixel.net",
+            " ",
+            "§eTalk to the Banker",
+            "Objective",
+            "  ",
+            "Bits: §b1,234 §3(+50)",
+            "Purse: §61,234,567.5",
+            "   ",
+            " §7⏣ §bVillage",
+            " §72:40§epm ☀",
+            " Late Summer 3rd",
+            "    ",
+            "§707/25/20 §8m77CK");
+
+    private SkyblockScoreboard scoreboard;
+
+    @Before
+    public void setUp() throws Exception {
+        scoreboard = new SkyblockScoreboard();
+    }
+
+    @Test
+    public void update() throws Exception {
+        assertEquals(-1, scoreboard.getPurse(), 0);
+        assertEquals(-1, scoreboard.getBits());
+
+        int changedFields = update(LINES);
+        assertEquals(SkyblockScoreboard.PURSE | SkyblockScoreboard.BITS | SkyblockScoreboard.LOCATION
+                | SkyblockScoreboard.OBJECTIVE | SkyblockScoreboard.SERVER, changedFields);
+        assertEquals(1234567.5, scoreboard.getPurse(), 0);
+        assertEquals(1234, scoreboard.getBits());
+        assertEquals("Village", scoreboard.getLocation());
+        assertEquals("Talk to the Banker", scoreboard.getObjective());
+        assertEquals("m77CK", scoreboard.getServer());
+
+        assertEquals(0, update(LINES));
+
+        assertEquals(SkyblockScoreboard.PURSE | SkyblockScoreboard.BITS | SkyblockScoreboard.LOCATION
+                | SkyblockScoreboard.OBJECTIVE | SkyblockScoreboard.SERVER, update(Collections.emptyList()));
+        assertEquals(-1, scoreboard.getPurse(), 0);
+        assertNull(scoreboard.getLocation());
+    }
+
+    @Test
+    public void updateLine() throws Exception {
+        update(LINES);
+
+        scoreboard.updateLine(6, "Piggy: §6900");
+        assertEquals(SkyblockScoreboard.PURSE, scoreboard.updateFields(LINES.size()));
+        assertEquals(900, scoreboard.getPurse(), 0);
+
+        // The objective is done, its header is gone
+        scoreboard.updateLine(3, "");
+        assertEquals(SkyblockScoreboard.OBJECTIVE, scoreboard.updateFields(LINES.size()));
+        assertNull(scoreboard.getObjective());
+        assertEquals("Village", scoreboard.getLocation());
+
+        // Lines above the line count are gone
+        assertEquals(SkyblockScoreboard.LOCATION | SkyblockScoreboard.SERVER, scoreboard.updateFields(8));
+        assertEquals(1234, scoreboard.getBits());
+    }
+
+    @Test
+    public void updateLine_padded() throws Exception {
+        // Hypixel pads lines with emojis where the prefix and suffix of the line meet
+        List<String> lines = Arrays.asList(
+                "§ewww.hypixel.net\uD83C\uDF82",
+                "Bits: §b1,2\uD83D\uDC7E34 §3(+50)",
+                "Purse: §61,234\u26BD,567.5",
+                " §7⏣ §bVil\uD83C\uDF89lage",
+                "§707/25/20 \uD83D\uDC7D§8m77CK");
+        update(lines);
+        assertEquals(1234567.5, scoreboard.getPurse(), 0);
+        assertEquals(1234, scoreboard.getBits());
+        assertEquals("Village", scoreboard.getLocation());
+        assertEquals("m77CK", scoreboard.getServer());
+
+        scoreboard.updateLine(2, "\u26BDPiggy: §6900");
+        assertEquals(SkyblockScoreboard.PURSE, scoreboard.updateFields(lines.size()));
+        assertEquals(900, scoreboard.getPurse(), 0);
+    }
+
+    /**
+     * Changes all lines, like the scoreboard parser does with the changed lines of the sidebar
+     */
+    private int update(List<String> lines) {
+        for (int i = 0; i < SidebarModel.MAX_LINES; i++) {
+            scoreboard.updateLine(i, i < lines.size() ? lines.get(i) : null);
+        }
+        return scoreboard.updateFields(lines.size());
+    }
+}